@@ -0,0 +1,65 @@
+package com.rednit.tinder4j.benchmarks;
+
+import com.rednit.tinder4j.api.TinderClient;
+import com.rednit.tinder4j.api.TinderClientBuilder;
+import com.rednit.tinder4j.requests.Request;
+import com.rednit.tinder4j.requests.Route;
+import com.rednit.tinder4j.requests.async.RestActionImpl;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures {@link Request#onSuccess(Object)}, which hands the result of a request to the callback pool. Each
+ * invocation dispatches a batch of callbacks and waits until all of them ran. {@code direct} runs the same callbacks
+ * on the calling thread, as {@code complete()} does, so the difference is the cost of the hop to the callback pool.
+ * The client is built without logging in, thus no request is sent.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Benchmark)
+public class DispatchBenchmark {
+
+    private static final int BATCH = 1000;
+    private final Object result = new Object();
+    private Request<Object> request;
+    private Request<Object> directRequest;
+    private volatile CountDownLatch latch;
+
+    @Setup
+    public void setup() {
+        TinderClient client = TinderClientBuilder.create("benchmark").setLogin(false).build();
+        Route.CompiledRoute route = Route.Self.GET_LIKE_COUNT.compile();
+        request = new Request<>(
+                new RestActionImpl<>(client, route), value -> latch.countDown(), throwable -> {
+        }, route, null);
+        directRequest = new Request<>(
+                new RestActionImpl<>(client, route), value -> latch.countDown(), throwable -> {
+        }, route, null, true);
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(BATCH)
+    public void onSuccess() throws InterruptedException {
+        dispatch(request);
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(BATCH)
+    public void direct() throws InterruptedException {
+        dispatch(directRequest);
+    }
+
+    private void dispatch(Request<Object> request) throws InterruptedException {
+        CountDownLatch batch = new CountDownLatch(BATCH);
+        latch = batch;
+        for (int i = 0; i < BATCH; i++) {
+            request.onSuccess(result);
+        }
+        batch.await();
+    }
+}
@@ -0,0 +1,92 @@
+package com.rednit.tinder4j.benchmarks;
+
+import com.rednit.tinder4j.api.entities.Match;
+import com.rednit.tinder4j.api.entities.message.Message;
+import com.rednit.tinder4j.api.entities.user.swipeable.LikedUser;
+import com.rednit.tinder4j.api.entities.user.swipeable.Recommendation;
+import com.rednit.tinder4j.requests.DataArray;
+import com.rednit.tinder4j.requests.DataObject;
+import org.openjdk.jmh.annotations.*;
+
+import java.io.ByteArrayInputStream;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures the construction of entities from already parsed {@link DataObject DataObjects}, one recorded page per
+ * invocation.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Benchmark)
+public class EntityBenchmark {
+
+    private DataArray matches;
+    private DataArray recommendations;
+    private DataArray likedUsers;
+    private DataArray messages;
+
+    @Setup
+    @SuppressWarnings("unchecked")
+    public void setup() {
+        matches = parse("matches").getObject("data").getArray("matches");
+        recommendations = parse("recs").getArray("results");
+        messages = parse("messages").getObject("data").getArray("messages");
+        // same transformation TinderClient#getLikedUsers() applies
+        likedUsers = DataArray.empty();
+        parse("my-likes").getObject("data").getArray("results").forEach(object -> {
+            DataObject user = new DataObject((Map<String, Object>) object);
+            DataObject transformed = new DataObject(new HashMap<>(user.toMap()));
+            transformed.remove("type");
+            transformed.remove("user");
+            user.getObject("user").toMap().forEach(transformed::put);
+            likedUsers.add(transformed.toMap());
+        });
+    }
+
+    private static DataObject parse(String fixture) {
+        return DataObject.fromJson(new ByteArrayInputStream(Fixtures.load(fixture)));
+    }
+
+    @Benchmark
+    public List<Match> match() {
+        List<Match> result = new ArrayList<>();
+        for (int i = 0; i < matches.length(); i++) {
+            result.add(new Match(matches.getObject(i), null));
+        }
+        return result;
+    }
+
+    @Benchmark
+    public List<Recommendation> recommendation() {
+        List<Recommendation> result = new ArrayList<>();
+        for (int i = 0; i < recommendations.length(); i++) {
+            result.add(new Recommendation(recommendations.getObject(i), null));
+        }
+        return result;
+    }
+
+    @Benchmark
+    public List<LikedUser> likedUser() {
+        List<LikedUser> result = new ArrayList<>();
+        for (int i = 0; i < likedUsers.length(); i++) {
+            result.add(new LikedUser(likedUsers.getObject(i), null));
+        }
+        return result;
+    }
+
+    @Benchmark
+    public List<Message> message() {
+        List<Message> result = new ArrayList<>();
+        for (int i = 0; i < messages.length(); i++) {
+            result.add(new Message(messages.getObject(i), null));
+        }
+        return result;
+    }
+}
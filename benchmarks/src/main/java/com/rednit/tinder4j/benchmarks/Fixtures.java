@@ -0,0 +1,33 @@
+package com.rednit.tinder4j.benchmarks;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+
+/**
+ * Loads the JSON fixtures from {@code src/main/resources/fixtures}. The fixtures are shaped like the responses of the
+ * corresponding Tinder endpoints:
+ * <ul>
+ *     <li>{@code matches} - {@code /v2/matches}</li>
+ *     <li>{@code recs} - {@code /user/recs}</li>
+ *     <li>{@code my-likes} - {@code /v2/my-likes}</li>
+ *     <li>{@code updates} - {@code /updates}</li>
+ *     <li>{@code messages} - {@code /v2/matches/{id}/messages}</li>
+ * </ul>
+ */
+final class Fixtures {
+
+    private Fixtures() {
+    }
+
+    static byte[] load(String name) {
+        try (InputStream stream = Fixtures.class.getResourceAsStream("/fixtures/" + name + ".json")) {
+            if (stream == null) {
+                throw new IllegalArgumentException("Unknown fixture " + name);
+            }
+            return stream.readAllBytes();
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+}
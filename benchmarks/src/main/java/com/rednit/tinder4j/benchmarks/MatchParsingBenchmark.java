@@ -0,0 +1,52 @@
+package com.rednit.tinder4j.benchmarks;
+
+import com.rednit.tinder4j.api.entities.Match;
+import com.rednit.tinder4j.requests.DataObject;
+import com.rednit.tinder4j.requests.EntityData;
+import org.openjdk.jmh.annotations.*;
+
+import java.io.ByteArrayInputStream;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Compares parsing a {@code /v2/matches} page into {@link Match Matches} through the {@link DataObject} map tree
+ * with binding it through {@link EntityData}.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Benchmark)
+public class MatchParsingBenchmark {
+
+    private byte[] matches;
+
+    @Setup
+    public void setup() {
+        matches = Fixtures.load("matches");
+    }
+
+    @Benchmark
+    @SuppressWarnings("unchecked")
+    public List<Match> dataObject() {
+        List<Match> result = new ArrayList<>();
+        DataObject data = DataObject.fromJson(new ByteArrayInputStream(matches)).getObject("data");
+        data.getArray("matches").forEach(object ->
+                result.add(new Match(new DataObject((Map<String, Object>) object), null))
+        );
+        return result;
+    }
+
+    @Benchmark
+    public List<Match> entityData() {
+        List<Match> result = new ArrayList<>();
+        EntityData.readMatchPage(new ByteArrayInputStream(matches)).data.matches.forEach(match ->
+                result.add(new Match(match, null))
+        );
+        return result;
+    }
+}
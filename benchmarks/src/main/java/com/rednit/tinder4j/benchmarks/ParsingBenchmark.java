@@ -0,0 +1,33 @@
+package com.rednit.tinder4j.benchmarks;
+
+import com.rednit.tinder4j.requests.DataObject;
+import org.openjdk.jmh.annotations.*;
+
+import java.io.ByteArrayInputStream;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures {@link DataObject#fromJson(java.io.InputStream)} for every recorded endpoint fixture.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Benchmark)
+public class ParsingBenchmark {
+
+    @Param({"matches", "recs", "my-likes", "updates", "messages"})
+    public String fixture;
+    private byte[] json;
+
+    @Setup
+    public void setup() {
+        json = Fixtures.load(fixture);
+    }
+
+    @Benchmark
+    public DataObject fromJson() {
+        return DataObject.fromJson(new ByteArrayInputStream(json));
+    }
+}
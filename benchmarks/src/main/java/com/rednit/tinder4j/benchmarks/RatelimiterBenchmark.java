@@ -0,0 +1,92 @@
+package com.rednit.tinder4j.benchmarks;
+
+import com.rednit.tinder4j.requests.TokenBucket;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures the {@link TokenBucket} backing the {@link com.rednit.tinder4j.requests.DefaultRatelimiter
+ * DefaultRatelimiter} with 64 concurrent callers, compared to the same bucket guarded by a monitor. The aux counters
+ * report how many calls were granted and denied.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@Threads(64)
+@State(Scope.Benchmark)
+public class RatelimiterBenchmark {
+
+    private TokenBucket tokenBucket;
+    private LockingBucket lockingBucket;
+
+    @Setup(Level.Iteration)
+    public void setup() {
+        tokenBucket = new TokenBucket(64, 1, TimeUnit.MILLISECONDS);
+        lockingBucket = new LockingBucket(64, 1);
+    }
+
+    @Benchmark
+    public boolean tokenBucket(Counters counters) {
+        return counters.count(tokenBucket.tryAcquire());
+    }
+
+    @Benchmark
+    public boolean lockingBucket(Counters counters) {
+        return counters.count(lockingBucket.tryAcquire());
+    }
+
+    @State(Scope.Thread)
+    @AuxCounters(AuxCounters.Type.EVENTS)
+    public static class Counters {
+
+        public long granted;
+        public long denied;
+
+        @Setup(Level.Iteration)
+        public void reset() {
+            granted = 0;
+            denied = 0;
+        }
+
+        boolean count(boolean acquired) {
+            if (acquired) {
+                granted++;
+            } else {
+                denied++;
+            }
+            return acquired;
+        }
+    }
+
+    private static class LockingBucket {
+
+        private final int capacity;
+        private final long interval;
+        private long tokens;
+        private long time;
+
+        private LockingBucket(int capacity, long interval) {
+            this.capacity = capacity;
+            this.interval = interval;
+            tokens = capacity;
+            time = System.currentTimeMillis();
+        }
+
+        private synchronized boolean tryAcquire() {
+            long now = System.currentTimeMillis();
+            long added = (now - time) / interval;
+            if (added > 0) {
+                tokens = Math.min(capacity, tokens + added);
+                time = tokens == capacity ? now : time + added * interval;
+            }
+            if (tokens < 1) {
+                return false;
+            }
+            tokens--;
+            return true;
+        }
+    }
+}
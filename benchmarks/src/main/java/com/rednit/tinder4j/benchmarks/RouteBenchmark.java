@@ -0,0 +1,36 @@
+package com.rednit.tinder4j.benchmarks;
+
+import com.rednit.tinder4j.requests.Route;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures {@link Route#compile(Object...)} for routes without, with one and with several parameters.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Benchmark)
+public class RouteBenchmark {
+
+    private final String matchId = "5f0b1a2c3d4e5f60718293a45f0b1a2c3d4e5f60718293a4";
+    private final String pageToken = "MjAyMi0wMy0yOFQxMzoyOToyOS41NzRa";
+
+    @Benchmark
+    public Route.CompiledRoute noParameter() {
+        return Route.Self.GET_LIKE_COUNT.compile();
+    }
+
+    @Benchmark
+    public Route.CompiledRoute oneParameter() {
+        return Route.User.GET_USER.compile(matchId);
+    }
+
+    @Benchmark
+    public Route.CompiledRoute threeParameters() {
+        return Route.Match.GET_MESSAGES_PAGE.compile(matchId, 60, pageToken);
+    }
+}
@@ -1,7 +1,10 @@
 package com.rednit.tinder4j.api;
 
+import com.rednit.tinder4j.api.requests.HttpTransport;
 import com.rednit.tinder4j.api.requests.Ratelimiter;
+import com.rednit.tinder4j.api.entities.Match;
 import com.rednit.tinder4j.api.entities.Update;
+import com.rednit.tinder4j.api.events.EventListener;
 import com.rednit.tinder4j.api.entities.user.LikePreview;
 import com.rednit.tinder4j.api.entities.user.SelfUser;
 import com.rednit.tinder4j.api.entities.user.swipeable.LikedUser;
@@ -12,17 +15,22 @@ import com.rednit.tinder4j.api.requests.RestAction;
 import com.rednit.tinder4j.requests.*;
 import com.rednit.tinder4j.requests.async.RestActionImpl;
 import com.rednit.tinder4j.api.cache.MatchCacheView;
+import com.rednit.tinder4j.api.cache.MessageCacheManager;
+import com.rednit.tinder4j.api.cache.MessageCachePolicy;
+import com.rednit.tinder4j.api.cache.UserProfileCache;
+import com.rednit.tinder4j.api.cache.UserProfileCachePolicy;
 import okhttp3.MediaType;
 import okhttp3.RequestBody;
 import org.jetbrains.annotations.Nullable;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
-import java.text.SimpleDateFormat;
+import java.time.Instant;
+import java.time.temporal.ChronoUnit;
 import java.util.*;
+import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.CompletionException;
 import java.util.concurrent.ExecutorService;
-import java.util.concurrent.ForkJoinPool;
 import java.util.concurrent.TimeUnit;
 
 /**
@@ -39,27 +47,47 @@ import java.util.concurrent.TimeUnit;
  * <h1>Rate Limiting</h1>
  *
  * The Tinder API has no official rate limiting, but API spamming results in extra verification needed, shadow-bans
- * or complete account suspension. Thus, the default Ratelimiter of the library is pretty restrictive.
+ * or complete account suspension. Thus, the default Ratelimiter of the library is pretty restrictive. It limits every
+ * route on its own, so a throttled route doesn't delay requests to other routes.
  * Use {@link #setRatelimiter(Ratelimiter) } to use your own Ratelimiter implementation.
  *
  * <h1>Runtime</h1>
  *
- * The client will terminate as soon as all pending API requests where sent. If you want to use this library for bots
- * or similar you have to keep the JVM or respectively the client alive by yourself. <b>This also results in callback
- * threads being killed before their execution is finished. Call {@link #awaitShutdown()} to prevent this behaviour.</b>
+ * All requests are sent asynchronously on daemon threads, thus the client will not keep the JVM alive. If you want to
+ * use this library for bots or similar you have to keep the JVM or respectively the client alive by yourself. <b>This
+ * also results in pending requests and callback threads being killed before their execution is finished. Call
+ * {@link #awaitShutdown()} to prevent this behaviour.</b>
+ *
+ * <p>Each client executes its callbacks on its own pool of daemon threads, unless a shared pool was set with the
+ * {@link TinderClientBuilder}. Call {@link #shutdown()} or {@link #close()} to release the client once it isn't
+ * needed anymore.
+ *
+ * <p>Connections and threads are provided by a {@link HttpTransport}. All clients share
+ * {@link HttpTransport#getDefault()} unless another transport is passed to the constructor.
+ *
+ * <h1>Events</h1>
+ *
+ * Register an {@link EventListener} with {@link #addEventListener(EventListener...)} to receive new matches, new
+ * messages and removed matches. As long as listeners are registered, the client polls the updates endpoint on its own,
+ * adapting the interval to the current activity. Events are fired on the callback threads.
  *
  * @author Kaktushose
  * @version 1.0.0
  * @see Ratelimiter
  * @since 1.0.0
  */
-public class TinderClient {
+public class TinderClient implements AutoCloseable {
 
     private final Logger log = LoggerFactory.getLogger(TinderClient.class);
     private final Requester requester;
-    private final ForkJoinPool callbackPool;
+    private final EntityInterner entityInterner;
+    private final CallbackExecutor callbackPool;
     private final MatchCacheView matchCache;
+    private final MessageCacheManager messageCacheManager;
+    private final UserProfileCache userProfileCache;
+    private final UpdatePoller updatePoller;
     private Ratelimiter ratelimiter;
+    private volatile boolean shutdown;
 
     /**
      * Constructs a new TinderClient.
@@ -68,29 +96,81 @@ public class TinderClient {
      * @throws LoginException if the provided token is invalid
      */
     public TinderClient(String token) {
-        this.requester = new Requester(token);
-        callbackPool = ForkJoinPool.commonPool();
-        matchCache = new MatchCacheView(this);
-        ratelimiter = new DefaultRatelimiter();
-        if (token == null || "".equals(token)) {
-            throw new LoginException("Token cannot be null or empty!");
-        }
+        this(token, HttpTransport.getDefault());
+    }
+
+    /**
+     * Constructs a new TinderClient that sends its requests with the given {@link HttpTransport}. Share one
+     * {@link HttpTransport} between the clients of many accounts to keep the amount of connections and request
+     * threads constant. Each client constructed this way still creates its own callback pool, use
+     * {@link TinderClientBuilder#setCallbackPool(java.util.concurrent.ExecutorService)} to share one between many
+     * accounts as well.
+     *
+     * @param token     the X-Auth-Token to authenticate
+     * @param transport the {@link HttpTransport} to send requests with
+     * @throws LoginException if the provided token is invalid
+     */
+    public TinderClient(String token, HttpTransport transport) {
+        this(token, transport, CallbackExecutor.create(Runtime.getRuntime().availableProcessors()),
+                new BucketRatelimiter()
+        );
         try {
             getSelfUser().complete();
         } catch (CompletionException ignored) {
+            release();
             throw new LoginException("The provided token is invalid!");
         }
         log.info("Login successful!");
     }
 
+    // doesn't log in, used by the TinderClientBuilder
+    TinderClient(String token, HttpTransport transport, CallbackExecutor callbackPool, Ratelimiter ratelimiter) {
+        if (token == null || "".equals(token)) {
+            throw new LoginException("Token cannot be null or empty!");
+        }
+        this.requester = new Requester(token, transport);
+        this.callbackPool = callbackPool;
+        this.ratelimiter = ratelimiter;
+        entityInterner = new EntityInterner();
+        matchCache = new MatchCacheView(this);
+        messageCacheManager = new MessageCacheManager(this, requester.getScheduler());
+        userProfileCache = new UserProfileCache(this);
+        updatePoller = new UpdatePoller(this, requester.getScheduler());
+    }
+
+    // completes with a LoginException if the token is invalid
+    CompletableFuture<TinderClient> login() {
+        return getSelfUser().submit().handle((self, throwable) -> {
+            if (throwable != null) {
+                release();
+                throw new CompletionException(new LoginException("The provided token is invalid!"));
+            }
+            log.info("Login successful!");
+            return this;
+        });
+    }
+
     /**
-     * Blocks the current thread until all callback threads have finished their tasks. This will wait a maximum of 60
-     * seconds.
+     * Blocks the current thread until all pending requests of this client received their response and all callbacks
+     * of this client have finished. Requests queued by callbacks are awaited as well. Callbacks of other clients
+     * sharing the callback pool are not awaited. This will wait a maximum of 60 seconds.
      *
      * @throws IllegalStateException after the maximum time to wait exceeded
      */
     public void awaitShutdown() {
-        boolean finished = callbackPool.awaitQuiescence(60, TimeUnit.SECONDS);
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(60);
+        boolean finished;
+        try {
+            // responses are handed to the callback pool before a request stops counting as pending, but callbacks
+            // may queue further requests, thus repeat until both are idle at once
+            do {
+                finished = requester.awaitIdle(deadline - System.nanoTime(), TimeUnit.NANOSECONDS)
+                        && callbackPool.awaitIdle(deadline - System.nanoTime(), TimeUnit.NANOSECONDS);
+            } while (finished && requester.getPendingCount() > 0);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            finished = false;
+        }
         if (!finished) {
             throw new IllegalStateException("Timed out while waiting for callback threads to finish!");
         }
@@ -98,25 +178,117 @@ public class TinderClient {
     }
 
     /**
-     * Gets an {@link Update} from the Tinder API.
+     * Shuts this client down. Stops polling for updates, waits like {@link #awaitShutdown()} for pending requests and
+     * callbacks and then rejects any further requests. The callback pool gets shut down as well, unless it is shared
+     * with other clients. The {@link HttpTransport} stays untouched. Calling this method more than once has no effect.
+     *
+     * @throws IllegalStateException if the pending requests and callbacks didn't finish in time, the client is shut
+     *                               down anyway
+     */
+    public void shutdown() {
+        if (shutdown) {
+            return;
+        }
+        shutdown = true;
+        updatePoller.stop();
+        messageCacheManager.shutdown();
+        try {
+            awaitShutdown();
+        } finally {
+            release();
+        }
+    }
+
+    // also reached if the login failed, so the poller and the cache sweep must be stopped here as well
+    private void release() {
+        shutdown = true;
+        updatePoller.stop();
+        messageCacheManager.shutdown();
+        requester.shutdown();
+        callbackPool.shutdown();
+    }
+
+    /**
+     * Shuts this client down.
+     *
+     * @see #shutdown()
+     */
+    @Override
+    public void close() {
+        shutdown();
+    }
+
+    /**
+     * Gets an {@link Update} from the Tinder API. The {@link Update} gets applied to the caches: new and changed
+     * matches are put into the {@link MatchCacheView}, new messages are appended to the
+     * {@link com.rednit.tinder4j.api.cache.MessageCacheView MessageCacheViews} that exist already and removed
+     * matches are dropped from both.
      *
      * @param lastActivityDate the last date of activity, can be null
      * @return a {@link RestAction} holding an {@link Update}
      */
     public RestAction<Update> getUpdates(@Nullable String lastActivityDate) {
         if (lastActivityDate == null || "".equals(lastActivityDate)) {
-            lastActivityDate = new SimpleDateFormat("yyyy-MM-dd'T'HH:mm:ss.00'Z'").format(new Date());
+            lastActivityDate = Instant.now().truncatedTo(ChronoUnit.MILLIS).toString();
         }
+        String since = lastActivityDate;
         RequestBody body = RequestBody.create(
                 DataObject.empty()
                         .put("nudge", true)
-                        .put("last_activity_date", lastActivityDate)
+                        .put("last_activity_date", since)
                         .toString(),
                 MediaType.parse("application/json")
         );
-        return new RestActionImpl<>(this, Route.Self.GET_UPDATES.compile(), body, (response, request) ->
-                new Update(DataObject.fromJson(response.body()))
+        return new RestActionImpl<>(this, Route.Self.GET_UPDATES.compile(), body, (response, request) -> {
+            return applyUpdate(new Update(DataObject.fromJson(response.stream()), since, this));
+        });
+    }
+
+    // folds the update into the caches, so they stay in sync without requesting matches or messages again. The
+    // returned update keeps the cached matches of unmatched users, which are removed from the cache afterwards
+    private Update applyUpdate(Update update) {
+        List<Match> unmatched = new ArrayList<>();
+        update.getUnmatched().forEach(matchId -> matchCache.getCachedMatch(matchId).ifPresent(unmatched::add));
+        update.getMatches().forEach(matchCache::add);
+        update.getNewMessages().forEach(message ->
+                messageCacheManager.getExistingMessageCacheView(message.getMatchId()).ifPresent(view ->
+                        view.addMessage(message.getMessage())
+                )
         );
+        update.getUnmatched().forEach(matchId -> {
+            matchCache.remove(matchId);
+            messageCacheManager.remove(matchId);
+        });
+        return unmatched.isEmpty() ? update : update.withUnmatchedMatches(unmatched);
+    }
+
+    /**
+     * Registers one or more {@link EventListener EventListeners}. Starts polling updates if no listener was
+     * registered before.
+     *
+     * @param listeners the {@link EventListener EventListeners} to register
+     * @see com.rednit.tinder4j.api.events.ListenerAdapter
+     */
+    public void addEventListener(EventListener... listeners) {
+        updatePoller.addListeners(listeners);
+    }
+
+    /**
+     * Removes one or more {@link EventListener EventListeners}. Stops polling updates if no listener is left.
+     *
+     * @param listeners the {@link EventListener EventListeners} to remove
+     */
+    public void removeEventListener(EventListener... listeners) {
+        updatePoller.removeListeners(listeners);
+    }
+
+    /**
+     * Gets an immutable {@link List} of all registered {@link EventListener EventListeners}.
+     *
+     * @return a {@link List} of all registered {@link EventListener EventListeners}
+     */
+    public List<EventListener> getRegisteredListeners() {
+        return updatePoller.getListeners();
     }
 
     /**
@@ -128,7 +300,7 @@ public class TinderClient {
     public RestAction<List<Recommendation>> getRecommendations() {
         return new RestActionImpl<>(this, Route.Self.GET_RECOMMENDATIONS.compile(), (response, request) -> {
             List<Recommendation> likePreviews = new ArrayList<>();
-            DataObject data = DataObject.fromJson(response.body());
+            DataObject data = DataObject.fromJson(response.stream());
             data.getArray("results").forEach(object ->
                     likePreviews.add(new Recommendation(new DataObject((Map<String, Object>) object), this))
             );
@@ -145,7 +317,7 @@ public class TinderClient {
     public RestAction<List<LikePreview>> getLikePreviews() {
         return new RestActionImpl<>(this, Route.Self.GET_LIKE_PREVIEWS.compile(), (response, request) -> {
             List<LikePreview> likePreviews = new ArrayList<>();
-            DataObject data = DataObject.fromJson(response.body());
+            DataObject data = DataObject.fromJson(response.stream());
             data.getObject("data").getArray("results").forEach(object -> {
                 DataObject preview = new DataObject((Map<String, Object>) object);
                 likePreviews.add(new LikePreview(preview.getObject("user"), this));
@@ -162,7 +334,7 @@ public class TinderClient {
     public RestAction<Integer> getLikeCount() {
         return new RestActionImpl<>(this, Route.Self.GET_LIKE_COUNT.compile(), (response, request) -> {
             List<LikePreview> likePreviews = new ArrayList<>();
-            DataObject data = DataObject.fromJson(response.body());
+            DataObject data = DataObject.fromJson(response.stream());
             return data.getObject("data").getInteger("count");
         });
     }
@@ -177,15 +349,53 @@ public class TinderClient {
     }
 
     /**
-     * Gets an {@link UserProfile} from the Tinder API by id.
+     * Gets the {@link MessageCacheManager} that limits the memory used by the
+     * {@link com.rednit.tinder4j.api.cache.MessageCacheView MessageCacheViews}.
+     *
+     * @return the {@link MessageCacheManager}
+     */
+    public MessageCacheManager getMessageCacheManager() {
+        return messageCacheManager;
+    }
+
+    /**
+     * Sets the {@link MessageCachePolicy} limiting how many messages are cached. Default value is
+     * {@link MessageCachePolicy#unbounded()}.
+     *
+     * @param policy the {@link MessageCachePolicy} to use
+     */
+    public void setMessageCachePolicy(MessageCachePolicy policy) {
+        messageCacheManager.setPolicy(policy);
+    }
+
+    /**
+     * Gets the {@link UserProfileCache}.
+     *
+     * @return the {@link UserProfileCache}
+     */
+    public UserProfileCache getUserProfileCache() {
+        return userProfileCache;
+    }
+
+    /**
+     * Sets the {@link UserProfileCachePolicy} limiting how long and how many user profiles are cached. Default value
+     * is {@link UserProfileCachePolicy#defaults()}.
+     *
+     * @param policy the {@link UserProfileCachePolicy} to use
+     */
+    public void setUserProfileCachePolicy(UserProfileCachePolicy policy) {
+        userProfileCache.setPolicy(policy);
+    }
+
+    /**
+     * Gets an {@link UserProfile} by id. The profile is taken from the {@link UserProfileCache} if present, otherwise
+     * it is requested from the Tinder API. Concurrent calls for the same id share one request.
      *
      * @param id the id to get the user from
      * @return a {@link RestAction} holding an {@link UserProfile}
      */
     public RestAction<UserProfile> getUserProfile(String id) {
-        return new RestActionImpl<>(this, Route.User.GET_USER.compile(id), (response, request) ->
-                new UserProfile(DataObject.fromJson(response.body()).getObject("results"), this)
-        );
+        return userProfileCache.getUserProfile(id);
     }
 
     /**
@@ -195,7 +405,7 @@ public class TinderClient {
      */
     public RestAction<SelfUser> getSelfUser() {
         return new RestActionImpl<>(this, Route.Self.GET_SELF.compile(), (response, request) ->
-                new SelfUser(DataObject.fromJson(response.body()), this)
+                new SelfUser(DataObject.fromJson(response.stream()), this)
         );
     }
 
@@ -208,7 +418,7 @@ public class TinderClient {
     public RestAction<List<LikedUser>> getLikedUsers() {
         return new RestActionImpl<>(this, Route.Self.GET_LIKED_USERS.compile(), (response, request) -> {
             List<LikedUser> likedUsers = new ArrayList<>();
-            DataObject data = DataObject.fromJson(response.body());
+            DataObject data = DataObject.fromJson(response.stream());
             DataArray result = DataArray.empty();
             data.getObject("data").getArray("results").forEach(object -> {
                 DataObject user = new DataObject((Map<String, Object>) object);
@@ -234,6 +444,15 @@ public class TinderClient {
         return requester;
     }
 
+    /**
+     * Gets the {@link EntityInterner} photos and images are shared through.
+     *
+     * @return the {@link EntityInterner}
+     */
+    public EntityInterner getEntityInterner() {
+        return entityInterner;
+    }
+
     /**
      * Gets the {@link ExecutorService} used for callbacks.
      *
@@ -0,0 +1,251 @@
+package com.rednit.tinder4j.api;
+
+import com.rednit.tinder4j.api.cache.MessageCachePolicy;
+import com.rednit.tinder4j.api.cache.UserProfileCachePolicy;
+import com.rednit.tinder4j.api.requests.HttpTransport;
+import com.rednit.tinder4j.api.requests.Ratelimiter;
+import com.rednit.tinder4j.exceptions.LoginException;
+import com.rednit.tinder4j.requests.BucketRatelimiter;
+import com.rednit.tinder4j.requests.CallbackExecutor;
+import com.rednit.tinder4j.requests.VirtualThreads;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutorService;
+import java.util.function.Supplier;
+
+/**
+ * Builder for {@link TinderClient TinderClients}. In contrast to the constructors of {@link TinderClient} the builder
+ * allows to configure the transport, the callback pool, the {@link Ratelimiter} and the caches before any request is
+ * sent, and to log in asynchronously:
+ * <pre>{@code
+ * HttpTransport transport = new HttpTransport();
+ * List<CompletableFuture<TinderClient>> clients = tokens.stream()
+ *         .map(token -> TinderClientBuilder.create(token).setTransport(transport).buildAsync())
+ *         .collect(Collectors.toList());
+ * }</pre>
+ * A builder can be used to build several clients, each client gets its own {@link Ratelimiter} unless one was set
+ * explicitly.
+ *
+ * @author Kaktushose
+ * @version 1.0.0
+ * @see TinderClient
+ * @since 1.0.0
+ */
+public class TinderClientBuilder {
+
+    private final String token;
+    private HttpTransport transport;
+    private ExecutorService callbackPool;
+    private int callbackPoolSize;
+    private Supplier<? extends Ratelimiter> ratelimiter;
+    private MessageCachePolicy messageCachePolicy;
+    private UserProfileCachePolicy userProfileCachePolicy;
+    private int maxRetries;
+    private boolean coalescing;
+    private boolean virtualThreads;
+    private boolean login;
+
+    private TinderClientBuilder(String token) {
+        this.token = token;
+        transport = HttpTransport.getDefault();
+        callbackPoolSize = Runtime.getRuntime().availableProcessors();
+        ratelimiter = BucketRatelimiter::new;
+        messageCachePolicy = MessageCachePolicy.unbounded();
+        userProfileCachePolicy = UserProfileCachePolicy.defaults();
+        maxRetries = 5;
+        login = true;
+    }
+
+    /**
+     * Creates a new TinderClientBuilder with the default settings.
+     *
+     * @param token the X-Auth-Token to authenticate
+     * @return a new TinderClientBuilder
+     */
+    public static TinderClientBuilder create(String token) {
+        return new TinderClientBuilder(token);
+    }
+
+    /**
+     * Sets the {@link HttpTransport} requests are sent with. Default value is {@link HttpTransport#getDefault()}.
+     *
+     * @param transport the {@link HttpTransport} to use
+     * @return this instance for fluent interface
+     */
+    public TinderClientBuilder setTransport(HttpTransport transport) {
+        this.transport = transport;
+        return this;
+    }
+
+    /**
+     * Sets the {@link ExecutorService} callbacks are executed on. Use this to share one pool between a group of
+     * clients. Shared pools aren't shut down together with a client, but each client still only waits for its own
+     * callbacks. By default, each client creates its own pool.
+     *
+     * <p>Callbacks blocking with {@link com.rednit.tinder4j.api.requests.RestAction#complete() RestAction#complete()}
+     * only make a {@link java.util.concurrent.ForkJoinPool ForkJoinPool} activate spare threads, any other pool needs
+     * enough threads for its blocked callbacks.
+     *
+     * @param callbackPool the {@link ExecutorService} to use, or {@code null} to let each client create its own pool
+     * @return this instance for fluent interface
+     */
+    public TinderClientBuilder setCallbackPool(ExecutorService callbackPool) {
+        this.callbackPool = callbackPool;
+        return this;
+    }
+
+    /**
+     * Sets the amount of threads of the callback pool each client creates if no shared pool was set. Default value
+     * is the amount of available processors.
+     *
+     * @param callbackPoolSize the amount of callback threads
+     * @return this instance for fluent interface
+     * @throws IllegalArgumentException if the amount is less than one
+     */
+    public TinderClientBuilder setCallbackPoolSize(int callbackPoolSize) {
+        if (callbackPoolSize < 1) {
+            throw new IllegalArgumentException("Callback pool size must be at least one!");
+        }
+        this.callbackPoolSize = callbackPoolSize;
+        return this;
+    }
+
+    /**
+     * Sets whether callbacks run on virtual threads, one per callback. Blocking is cheap on virtual threads, thus
+     * callbacks calling {@link com.rednit.tinder4j.api.requests.RestAction#complete() RestAction#complete()} don't
+     * need any spare threads in this mode. This requires Java 21 or newer and is ignored if a shared pool was set.
+     * Default value is {@code false}.
+     *
+     * @param virtualThreads {@code true} to run callbacks on virtual threads
+     * @return this instance for fluent interface
+     * @throws UnsupportedOperationException if the runtime doesn't support virtual threads
+     */
+    public TinderClientBuilder setVirtualThreads(boolean virtualThreads) {
+        if (virtualThreads && !VirtualThreads.isSupported()) {
+            throw new UnsupportedOperationException("Virtual threads require Java 21 or newer!");
+        }
+        this.virtualThreads = virtualThreads;
+        return this;
+    }
+
+    /**
+     * Sets the {@link Ratelimiter} used to rate limit requests. Every client built afterwards shares this
+     * {@link Ratelimiter}. Default value is a new {@link BucketRatelimiter} per client.
+     *
+     * @param ratelimiter the {@link Ratelimiter} to use
+     * @return this instance for fluent interface
+     */
+    public TinderClientBuilder setRatelimiter(Ratelimiter ratelimiter) {
+        this.ratelimiter = () -> ratelimiter;
+        return this;
+    }
+
+    /**
+     * Sets the {@link MessageCachePolicy}. Default value is {@link MessageCachePolicy#unbounded()}.
+     *
+     * @param messageCachePolicy the {@link MessageCachePolicy} to use
+     * @return this instance for fluent interface
+     */
+    public TinderClientBuilder setMessageCachePolicy(MessageCachePolicy messageCachePolicy) {
+        this.messageCachePolicy = messageCachePolicy;
+        return this;
+    }
+
+    /**
+     * Sets the {@link UserProfileCachePolicy}. Default value is {@link UserProfileCachePolicy#defaults()}.
+     *
+     * @param userProfileCachePolicy the {@link UserProfileCachePolicy} to use
+     * @return this instance for fluent interface
+     */
+    public TinderClientBuilder setUserProfileCachePolicy(UserProfileCachePolicy userProfileCachePolicy) {
+        this.userProfileCachePolicy = userProfileCachePolicy;
+        return this;
+    }
+
+    /**
+     * Sets how often a rate limited request is retried. Default value is {@code 5}.
+     *
+     * @param maxRetries the maximum amount of retries
+     * @return this instance for fluent interface
+     * @throws IllegalArgumentException if the amount is negative
+     */
+    public TinderClientBuilder setMaxRetries(int maxRetries) {
+        if (maxRetries < 0) {
+            throw new IllegalArgumentException("Max retries cannot be negative!");
+        }
+        this.maxRetries = maxRetries;
+        return this;
+    }
+
+    /**
+     * Sets whether identical GET requests are coalesced. Default value is {@code false}.
+     *
+     * @param coalescing {@code true} to coalesce identical GET requests
+     * @return this instance for fluent interface
+     * @see com.rednit.tinder4j.requests.Requester#setCoalescing(boolean)
+     */
+    public TinderClientBuilder setCoalescing(boolean coalescing) {
+        this.coalescing = coalescing;
+        return this;
+    }
+
+    /**
+     * Sets whether the token gets verified by logging in while building. If disabled, an invalid token only shows up
+     * when the first request fails. Default value is {@code true}.
+     *
+     * @param login {@code true} to log in while building
+     * @return this instance for fluent interface
+     */
+    public TinderClientBuilder setLogin(boolean login) {
+        this.login = login;
+        return this;
+    }
+
+    /**
+     * Builds the {@link TinderClient} and blocks the current thread until the login finished.
+     *
+     * @return the {@link TinderClient}
+     * @throws LoginException if the token is empty or invalid
+     */
+    public TinderClient build() {
+        try {
+            return buildAsync().join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof LoginException) {
+                throw (LoginException) e.getCause();
+            }
+            throw e;
+        }
+    }
+
+    /**
+     * Builds the {@link TinderClient} without blocking. The returned future completes once the login finished, or
+     * immediately if the login is disabled.
+     *
+     * @return a {@link CompletableFuture} holding the {@link TinderClient}, which completes exceptionally with a
+     * {@link LoginException} if the token is empty or invalid
+     */
+    public CompletableFuture<TinderClient> buildAsync() {
+        if (token == null || "".equals(token)) {
+            return CompletableFuture.failedFuture(new LoginException("Token cannot be null or empty!"));
+        }
+        CallbackExecutor executor;
+        if (callbackPool != null) {
+            executor = new CallbackExecutor(callbackPool, false);
+        } else if (virtualThreads) {
+            executor = new CallbackExecutor(VirtualThreads.newExecutor("Tinder4J Callback"), true);
+        } else {
+            executor = CallbackExecutor.create(callbackPoolSize);
+        }
+        TinderClient client = new TinderClient(token, transport, executor, ratelimiter.get());
+        client.getRequester().setMaxRetries(maxRetries);
+        client.getRequester().setCoalescing(coalescing);
+        client.setMessageCachePolicy(messageCachePolicy);
+        client.setUserProfileCachePolicy(userProfileCachePolicy);
+        if (!login) {
+            return CompletableFuture.completedFuture(client);
+        }
+        return client.login();
+    }
+}
@@ -2,19 +2,35 @@ package com.rednit.tinder4j.api.cache;
 
 import com.rednit.tinder4j.api.TinderClient;
 import com.rednit.tinder4j.api.entities.Match;
+import com.rednit.tinder4j.api.entities.user.GenericUser;
+import com.rednit.tinder4j.api.requests.PaginationAction;
 import com.rednit.tinder4j.requests.async.CompletedRestAction;
 import com.rednit.tinder4j.api.requests.RestAction;
+import com.rednit.tinder4j.requests.async.PaginationActionImpl;
+import com.rednit.tinder4j.requests.async.PaginationActionImpl.Page;
 import com.rednit.tinder4j.requests.async.RestActionImpl;
-import com.rednit.tinder4j.requests.DataObject;
+import com.rednit.tinder4j.requests.EntityData;
 import com.rednit.tinder4j.requests.Route;
 import org.jetbrains.annotations.NotNull;
 
 import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.ConcurrentNavigableMap;
+import java.util.concurrent.ConcurrentSkipListMap;
+import java.util.concurrent.ConcurrentSkipListSet;
+import java.util.concurrent.Flow;
+import java.util.concurrent.atomic.AtomicLong;
 import java.util.function.Consumer;
 import java.util.stream.Collectors;
+import java.util.stream.Stream;
 
 /**
- * A simple cache for {@link Match Matches}.
+ * A cache for {@link Match Matches}. Matches are indexed by id, by the id, name and birth year of the matched user and
+ * by their last activity date, so lookups don't have to scan the whole cache. The cache keeps the order in which
+ * matches were added, which is the order of the Tinder API if they were loaded with {@link #loadAllMatches()}. A
+ * replaced match keeps its position. The cache can safely be modified from multiple threads, iterating over it is
+ * weakly consistent and never throws a {@link ConcurrentModificationException}.
  *
  * @author Kaktushose
  * @version 1.0.0
@@ -23,8 +39,14 @@ import java.util.stream.Collectors;
 public class MatchCacheView implements Iterable<Match> {
 
     private final TinderClient client;
-    private final List<Match> matches;
-    private String pageToken;
+    private final ConcurrentMap<String, Match> matches;
+    private final ConcurrentMap<String, Long> positions;
+    private final ConcurrentNavigableMap<Long, Match> ordered;
+    private final AtomicLong sequence;
+    private final ConcurrentMap<String, String> byUserId;
+    private final ConcurrentMap<String, Set<String>> byName;
+    private final ConcurrentMap<Integer, Set<String>> byBirthYear;
+    private final NavigableSet<Match> byLastActivity;
 
     /**
      * Constructs a new MatchCacheView.
@@ -33,7 +55,16 @@ public class MatchCacheView implements Iterable<Match> {
      */
     public MatchCacheView(TinderClient client) {
         this.client = client;
-        matches = new ArrayList<>();
+        matches = new ConcurrentHashMap<>();
+        positions = new ConcurrentHashMap<>();
+        ordered = new ConcurrentSkipListMap<>();
+        sequence = new AtomicLong();
+        byUserId = new ConcurrentHashMap<>();
+        byName = new ConcurrentHashMap<>();
+        byBirthYear = new ConcurrentHashMap<>();
+        byLastActivity = new ConcurrentSkipListSet<>(
+                Comparator.comparing(Match::getLastActivityDate).reversed().thenComparing(Match::getId)
+        );
     }
 
     /**
@@ -44,15 +75,13 @@ public class MatchCacheView implements Iterable<Match> {
      * @return a {@link RestAction} holding the {@link Match}
      */
     public RestAction<Match> getMatch(String id) {
-        List<Match> filtered = matches.stream().filter(
-                match -> match.getId().equals(id)
-        ).collect(Collectors.toList());
-        if (filtered.size() == 0) {
+        Match match = matches.get(id);
+        if (match == null) {
             return new RestActionImpl<>(client, Route.Match.GET_MATCH.compile(id), (response, request) ->
-                    new Match(DataObject.fromJson(response.body()).getObject("data"), client)
+                    new Match(EntityData.readMatch(response.stream()), client)
             );
         }
-        return new CompletedRestAction<>(filtered.get(0));
+        return new CompletedRestAction<>(match);
     }
 
     /**
@@ -61,49 +90,90 @@ public class MatchCacheView implements Iterable<Match> {
      * <p><b>This method is blocking.</b></p>
      *
      * @return a {@link List} of all {@link Match Matches}
+     * @see #retrieveMatches()
      */
     public List<Match> loadAllMatches() {
-        matches.clear();
-        return loadMatches(null);
+        clear();
+        return retrieveMatches().complete();
     }
 
-    @SuppressWarnings("unchecked")
-    private List<Match> loadMatches(String pageToken) {
-        Route.CompiledRoute route;
-        if (pageToken == null) {
-            route = Route.Self.GET_MATCHES.compile(60);
-        } else {
-            route = Route.Self.GET_MATCHES_PAGE.compile(60, pageToken);
-        }
-        RestAction<List<Match>> restAction = new RestActionImpl<>(client, route, (response, request) -> {
-            List<Match> matches = new ArrayList<>();
-            DataObject data = DataObject.fromJson(response.body()).getObject("data");
-            data.getArray("matches").forEach(object ->
-                    matches.add(new Match(new DataObject((Map<String, Object>) object), client))
-            );
-            if (data.hasKey("next_page_token")) {
-                this.pageToken = data.getString("next_page_token");
-            } else {
-                this.pageToken = null;
+    /**
+     * Requests all matches from the Tinder API page by page. Every {@link Match} gets added to the cache as soon as
+     * its page arrives.
+     *
+     * @return a {@link PaginationAction} holding all {@link Match Matches}
+     */
+    public PaginationAction<Match> retrieveMatches() {
+        return paginate(true);
+    }
+
+    /**
+     * Gets a {@link Flow.Publisher} emitting all matches as their pages arrive. The next page is only requested
+     * if there is outstanding demand. The matches are <em>not</em> added to the cache, so memory doesn't grow with the
+     * amount of matches.
+     *
+     * @return a {@link Flow.Publisher} emitting all {@link Match Matches}
+     * @see PaginationAction#asPublisher()
+     */
+    public Flow.Publisher<Match> publishMatches() {
+        return paginate(false).asPublisher();
+    }
+
+    /**
+     * Gets a lazy {@link Stream} of all matches. The next page is only requested once the matches of the previous
+     * page were consumed. The matches are <em>not</em> added to the cache.
+     * <p><b>Consuming the stream is blocking.</b></p>
+     *
+     * @return a {@link Stream} of all {@link Match Matches}
+     * @see PaginationAction#stream()
+     */
+    public Stream<Match> streamMatches() {
+        return paginate(false).stream();
+    }
+
+    private PaginationAction<Match> paginate(boolean cache) {
+        return new PaginationActionImpl<>(client, Route.Self.GET_MATCHES, Route.Self.GET_MATCHES_PAGE, response -> {
+            EntityData.MatchPageData data = EntityData.readMatchPage(response.stream()).data;
+            return data == null ? new Page<>(null, null) : new Page<>(data.matches, data.nextPageToken);
+        }, data -> {
+            Match match = new Match(data, client);
+            if (cache) {
+                add(match);
             }
-            return matches;
+            return match;
         });
-        List<Match> result = restAction.complete();
-        if (this.pageToken != null) {
-            result.addAll(loadMatches(this.pageToken));
-        }
-        return result;
     }
 
     /**
-     * Gets all {@link Match Matches} inside the cache. Use {@link #loadAllMatches()} to request matches from the
-     * Tinder API.
+     * Gets all {@link Match Matches} inside the cache in the order they were added. Use {@link #loadAllMatches()} to
+     * request matches from the Tinder API.
      *
      * @return all {@link Match Matches} inside the cache
      * @see #loadAllMatches()
      */
     public List<Match> getMatches() {
-        return new ArrayList<>(matches);
+        return new ArrayList<>(ordered.values());
+    }
+
+    /**
+     * Gets a {@link Match} by id. This will only consider cached {@link Match Matches}.
+     *
+     * @param id the id to get the {@link Match} from
+     * @return an {@link Optional} holding the {@link Match}
+     */
+    public Optional<Match> getCachedMatch(String id) {
+        return Optional.ofNullable(matches.get(id));
+    }
+
+    /**
+     * Gets the {@link Match} with the given user. This will only consider cached {@link Match Matches}.
+     *
+     * @param userId the id of the matched user
+     * @return an {@link Optional} holding the {@link Match}
+     */
+    public Optional<Match> getMatchByUserId(String userId) {
+        String matchId = byUserId.get(userId);
+        return matchId == null ? Optional.empty() : Optional.ofNullable(matches.get(matchId));
     }
 
     /**
@@ -113,30 +183,65 @@ public class MatchCacheView implements Iterable<Match> {
      * @return a possibly empty {@link List} of the filtered matches
      */
     public List<Match> getMatchesByName(String name) {
-        return matches.stream().filter(
-                match -> match.getMatchedUser().getName().equals(name)
-        ).collect(Collectors.toList());
+        return resolve(byName.get(name));
     }
 
     /**
      * Gets all matches filtered by the age of the matched user. This will only consider cached {@link Match Matches}.
+     * Matches whose user hides the birthdate are never included. The age is calculated when this method is called.
      *
      * @param age the age to get matches by
      * @return a possibly empty {@link List} of the filtered matches
      */
     public List<Match> getMatchesByAge(int age) {
-        return matches.stream().filter(
-                match -> match.getMatchedUser().getAge() == age
-        ).collect(Collectors.toList());
+        // there are only a few distinct birth years, so checking each of them is cheap
+        List<Match> result = new ArrayList<>();
+        byBirthYear.forEach((birthYear, ids) -> {
+            if (GenericUser.calculateAge(birthYear) == age) {
+                result.addAll(resolve(ids));
+            }
+        });
+        return result;
     }
 
     /**
-     * Adds a {@link Match} to the cache.
+     * Gets all matches sorted by their last activity date, most recent first. This will only consider cached
+     * {@link Match Matches}.
+     *
+     * @return a possibly empty {@link List} of the sorted matches
+     */
+    public List<Match> getMatchesByLastActivity() {
+        return new ArrayList<>(byLastActivity);
+    }
+
+    /**
+     * Gets all matches that were active after the given date, most recent first. This will only consider cached
+     * {@link Match Matches}.
+     *
+     * @param date the date as ISO-8601 string, e.g. {@code 2022-11-05T22:55:08.255Z}
+     * @return a possibly empty {@link List} of the filtered matches
+     */
+    public List<Match> getMatchesActiveSince(String date) {
+        return byLastActivity.stream()
+                .takeWhile(match -> match.getLastActivityDate().compareTo(date) > 0)
+                .collect(Collectors.toList());
+    }
+
+    /**
+     * Adds a {@link Match} to the cache. Replaces the cached {@link Match} with the same id, if present, at its
+     * position.
      *
      * @param match the {@link Match} to add
      */
     public void add(Match match) {
-        matches.add(match);
+        matches.compute(match.getId(), (id, old) -> {
+            if (old != null) {
+                unindex(old);
+            }
+            index(match);
+            ordered.put(positions.computeIfAbsent(id, key -> sequence.incrementAndGet()), match);
+            return match;
+        });
     }
 
     /**
@@ -154,7 +259,65 @@ public class MatchCacheView implements Iterable<Match> {
      * @param matchId the id of the {@link Match} to remove
      */
     public void remove(String matchId) {
-        matches.removeIf(match -> match.getId().equals(matchId));
+        matches.computeIfPresent(matchId, (id, old) -> {
+            unindex(old);
+            ordered.remove(positions.remove(id));
+            return null;
+        });
+    }
+
+    private void clear() {
+        matches.keySet().forEach(this::remove);
+    }
+
+    // only uses the raw fields of the match, so indexing doesn't decode the matched user
+    private void index(Match match) {
+        byUserId.put(match.getMatchedUserId(), match.getId());
+        match.getMatchedUserName().ifPresent(name -> addToIndex(byName, name, match.getId()));
+        match.getMatchedUserBirthYear().ifPresent(year -> addToIndex(byBirthYear, year, match.getId()));
+        if (match.getLastActivityDate() != null) {
+            byLastActivity.add(match);
+        }
+    }
+
+    private void unindex(Match match) {
+        byUserId.remove(match.getMatchedUserId(), match.getId());
+        match.getMatchedUserName().ifPresent(name -> removeFromIndex(byName, name, match.getId()));
+        match.getMatchedUserBirthYear().ifPresent(year -> removeFromIndex(byBirthYear, year, match.getId()));
+        if (match.getLastActivityDate() != null) {
+            byLastActivity.remove(match);
+        }
+    }
+
+    private <K> void addToIndex(ConcurrentMap<K, Set<String>> index, K key, String matchId) {
+        index.compute(key, (k, ids) -> {
+            if (ids == null) {
+                ids = ConcurrentHashMap.newKeySet();
+            }
+            ids.add(matchId);
+            return ids;
+        });
+    }
+
+    private <K> void removeFromIndex(ConcurrentMap<K, Set<String>> index, K key, String matchId) {
+        index.computeIfPresent(key, (k, ids) -> {
+            ids.remove(matchId);
+            return ids.isEmpty() ? null : ids;
+        });
+    }
+
+    private List<Match> resolve(Set<String> ids) {
+        if (ids == null) {
+            return new ArrayList<>();
+        }
+        List<Match> result = new ArrayList<>(ids.size());
+        for (String id : ids) {
+            Match match = matches.get(id);
+            if (match != null) {
+                result.add(match);
+            }
+        }
+        return result;
     }
 
     /**
@@ -166,19 +329,24 @@ public class MatchCacheView implements Iterable<Match> {
         return matches.size();
     }
 
+    /**
+     * Iterates over the cached {@link Match Matches} in the order they were added.
+     *
+     * @return an {@link Iterator} over the cached {@link Match Matches}
+     */
     @NotNull
     @Override
     public Iterator<Match> iterator() {
-        return matches.iterator();
+        return ordered.values().iterator();
     }
 
     @Override
     public void forEach(Consumer<? super Match> action) {
-        matches.forEach(action);
+        ordered.values().forEach(action);
     }
 
     @Override
     public Spliterator<Match> spliterator() {
-        return matches.spliterator();
+        return ordered.values().spliterator();
     }
 }
@@ -0,0 +1,263 @@
+package com.rednit.tinder4j.api.cache;
+
+import com.rednit.tinder4j.api.TinderClient;
+
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * Enforces the {@link MessageCachePolicy} across all {@link MessageCacheView MessageCacheViews} of a
+ * {@link com.rednit.tinder4j.api.TinderClient TinderClient}. Conversations are tracked in least recently used order,
+ * reading the messages of a {@link MessageCacheView} or loading a page counts as use. Evicted conversations are requested
+ * again from the Tinder API on demand.
+ *
+ * <p>The manager also owns the {@link MessageCacheView MessageCacheViews}, one per match id, so a conversation keeps
+ * its history when the corresponding {@link com.rednit.tinder4j.api.entities.Match Match} gets replaced by an
+ * update.
+ *
+ * @author Kaktushose
+ * @version 1.0.0
+ * @see MessageCachePolicy
+ * @since 1.0.0
+ */
+public class MessageCacheManager {
+
+    private final TinderClient client;
+    private final ConcurrentMap<String, MessageCacheView> registry;
+    private final ReentrantLock lock;
+    private final LinkedHashMap<MessageCacheView, Usage> views;
+    private final ScheduledExecutorService scheduler;
+    private MessageCachePolicy policy;
+    private MessageCacheView current;
+    private ScheduledFuture<?> sweep;
+    private long total;
+
+    /**
+     * Constructs a new MessageCacheManager.
+     *
+     * @param client    the corresponding {@link TinderClient} instance
+     * @param scheduler the {@link ScheduledExecutorService} to expire idle conversations with
+     */
+    public MessageCacheManager(TinderClient client, ScheduledExecutorService scheduler) {
+        this.client = client;
+        this.scheduler = scheduler;
+        registry = new ConcurrentHashMap<>();
+        lock = new ReentrantLock();
+        views = new LinkedHashMap<>(16, 0.75f, true);
+        policy = MessageCachePolicy.unbounded();
+    }
+
+    /**
+     * Gets the {@link MessageCacheView} of a match. Creates the {@link MessageCacheView} if it doesn't exist yet.
+     *
+     * @param matchId the id of the match
+     * @return the {@link MessageCacheView}
+     */
+    public MessageCacheView getMessageCacheView(String matchId) {
+        return registry.computeIfAbsent(matchId, id -> new MessageCacheView(id, client));
+    }
+
+    /**
+     * Gets the {@link MessageCacheView} of a match, if it was created already.
+     *
+     * @param matchId the id of the match
+     * @return an {@link Optional} holding the {@link MessageCacheView}
+     */
+    public Optional<MessageCacheView> getExistingMessageCacheView(String matchId) {
+        return Optional.ofNullable(registry.get(matchId));
+    }
+
+    /**
+     * Removes the {@link MessageCacheView} of a match and evicts its messages.
+     *
+     * @param matchId the id of the match
+     */
+    public void remove(String matchId) {
+        MessageCacheView view = registry.remove(matchId);
+        if (view == null) {
+            return;
+        }
+        lock.lock();
+        try {
+            Usage usage = views.remove(view);
+            if (usage != null) {
+                total -= usage.size;
+            }
+            if (view == current) {
+                current = null;
+            }
+            view.evict();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Gets the {@link MessageCachePolicy}.
+     *
+     * @return the {@link MessageCachePolicy}
+     */
+    public MessageCachePolicy getPolicy() {
+        lock.lock();
+        try {
+            return policy;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Sets the {@link MessageCachePolicy} and applies it to all cached conversations immediately.
+     *
+     * @param policy the {@link MessageCachePolicy} to use
+     */
+    public void setPolicy(MessageCachePolicy policy) {
+        lock.lock();
+        try {
+            this.policy = policy;
+            if (sweep != null) {
+                sweep.cancel(false);
+                sweep = null;
+            }
+            long expiry = policy.getExpireAfterIdle();
+            if (expiry > 0) {
+                long period = Math.max(TimeUnit.SECONDS.toNanos(1), expiry / 4);
+                sweep = scheduler.scheduleAtFixedRate(this::evictIdle, period, period, TimeUnit.NANOSECONDS);
+            }
+            for (Map.Entry<MessageCacheView, Usage> entry : views.entrySet()) {
+                if (entry.getKey() != current) {
+                    trim(entry.getKey(), entry.getValue());
+                }
+            }
+            enforce();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Stops expiring idle conversations periodically. Called when the client gets shut down.
+     */
+    public void shutdown() {
+        lock.lock();
+        try {
+            if (sweep != null) {
+                sweep.cancel(false);
+                sweep = null;
+            }
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Gets the amount of cached messages across all conversations.
+     *
+     * @return the amount of cached messages
+     */
+    public long getMessageCount() {
+        lock.lock();
+        try {
+            return total;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Evicts all conversations that exceeded the idle time of the {@link MessageCachePolicy}. This is also done
+     * periodically and whenever a conversation gets accessed.
+     */
+    public void evictIdle() {
+        lock.lock();
+        try {
+            long expiry = policy.getExpireAfterIdle();
+            if (expiry == 0) {
+                return;
+            }
+            long now = System.nanoTime();
+            Iterator<Map.Entry<MessageCacheView, Usage>> iterator = views.entrySet().iterator();
+            while (iterator.hasNext()) {
+                Map.Entry<MessageCacheView, Usage> eldest = iterator.next();
+                if (now - eldest.getValue().lastAccess < expiry) {
+                    break;
+                }
+                evict(eldest, iterator);
+            }
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Records the use of a conversation and applies the {@link MessageCachePolicy}.
+     *
+     * @param view the {@link MessageCacheView} that got used
+     */
+    void record(MessageCacheView view) {
+        lock.lock();
+        try {
+            Usage usage = views.get(view);
+            if (usage == null) {
+                usage = new Usage();
+                views.put(view, usage);
+            }
+            usage.lastAccess = System.nanoTime();
+            int size = view.cachedSize();
+            total += size - usage.size;
+            usage.size = size;
+            if (current != view) {
+                MessageCacheView previous = current;
+                current = view;
+                Usage previousUsage = previous == null ? null : views.get(previous);
+                if (previousUsage != null) {
+                    // LinkedHashMap#get changed the access order, move the current view back to the end
+                    views.get(view);
+                    trim(previous, previousUsage);
+                }
+            }
+            enforce();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    private void trim(MessageCacheView view, Usage usage) {
+        int removed = view.trim(policy.getMaxMessagesPerMatch());
+        usage.size -= removed;
+        total -= removed;
+    }
+
+    private void enforce() {
+        evictIdle();
+        Iterator<Map.Entry<MessageCacheView, Usage>> iterator = views.entrySet().iterator();
+        while (total > policy.getMaxMessages() && iterator.hasNext()) {
+            Map.Entry<MessageCacheView, Usage> eldest = iterator.next();
+            if (eldest.getKey() != current) {
+                evict(eldest, iterator);
+            }
+        }
+    }
+
+    private void evict(Map.Entry<MessageCacheView, Usage> entry, Iterator<Map.Entry<MessageCacheView, Usage>> iterator) {
+        entry.getKey().evict();
+        total -= entry.getValue().size;
+        iterator.remove();
+        if (entry.getKey() == current) {
+            current = null;
+        }
+    }
+
+    private static class Usage {
+        private long lastAccess;
+        private int size;
+    }
+}
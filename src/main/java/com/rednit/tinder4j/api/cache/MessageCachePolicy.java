@@ -0,0 +1,106 @@
+package com.rednit.tinder4j.api.cache;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Limits how many {@link com.rednit.tinder4j.api.entities.message.Message Messages} are kept in the
+ * {@link MessageCacheView MessageCacheViews} of a {@link com.rednit.tinder4j.api.TinderClient TinderClient}. A
+ * policy is immutable, every {@code with...} method returns a new policy. Evicted messages are requested again
+ * from the Tinder API when they are accessed.
+ *
+ * @author Kaktushose
+ * @version 1.0.0
+ * @see MessageCacheManager
+ * @since 1.0.0
+ */
+public class MessageCachePolicy {
+
+    private static final MessageCachePolicy UNBOUNDED = new MessageCachePolicy(Integer.MAX_VALUE, Long.MAX_VALUE, 0);
+    private final int maxMessagesPerMatch;
+    private final long maxMessages;
+    private final long expireAfterIdle;
+
+    private MessageCachePolicy(int maxMessagesPerMatch, long maxMessages, long expireAfterIdle) {
+        this.maxMessagesPerMatch = maxMessagesPerMatch;
+        this.maxMessages = maxMessages;
+        this.expireAfterIdle = expireAfterIdle;
+    }
+
+    /**
+     * Gets a policy without any limits. This is the default policy.
+     *
+     * @return a policy without any limits
+     */
+    public static MessageCachePolicy unbounded() {
+        return UNBOUNDED;
+    }
+
+    /**
+     * Limits the amount of messages kept per match. The oldest messages of a conversation are evicted once another
+     * conversation gets accessed, thus paging through the most recently used conversation is never undone.
+     *
+     * @param maxMessagesPerMatch the maximum amount of messages per match
+     * @return a new policy with the given limit
+     * @throws IllegalArgumentException if the limit is negative
+     */
+    public MessageCachePolicy withMaxMessagesPerMatch(int maxMessagesPerMatch) {
+        if (maxMessagesPerMatch < 0) {
+            throw new IllegalArgumentException("Max messages per match cannot be negative!");
+        }
+        return new MessageCachePolicy(maxMessagesPerMatch, maxMessages, expireAfterIdle);
+    }
+
+    /**
+     * Limits the amount of messages kept across all matches. Once the limit is exceeded, whole conversations are
+     * evicted in least recently used order. The most recently used conversation is never evicted.
+     *
+     * @param maxMessages the maximum amount of messages across all matches
+     * @return a new policy with the given limit
+     * @throws IllegalArgumentException if the limit is negative
+     */
+    public MessageCachePolicy withMaxMessages(long maxMessages) {
+        if (maxMessages < 0) {
+            throw new IllegalArgumentException("Max messages cannot be negative!");
+        }
+        return new MessageCachePolicy(maxMessagesPerMatch, maxMessages, expireAfterIdle);
+    }
+
+    /**
+     * Evicts conversations that weren't accessed for the given time.
+     *
+     * @param duration the idle time after which a conversation gets evicted, {@code 0} to never expire
+     * @param unit     the {@link TimeUnit} of the duration
+     * @return a new policy with the given expiry
+     * @throws IllegalArgumentException if the duration is negative
+     */
+    public MessageCachePolicy withExpireAfterIdle(long duration, TimeUnit unit) {
+        if (duration < 0) {
+            throw new IllegalArgumentException("Duration cannot be negative!");
+        }
+        return new MessageCachePolicy(maxMessagesPerMatch, maxMessages, unit.toNanos(duration));
+    }
+
+    public int getMaxMessagesPerMatch() {
+        return maxMessagesPerMatch;
+    }
+
+    public long getMaxMessages() {
+        return maxMessages;
+    }
+
+    /**
+     * Gets the idle time after which a conversation gets evicted.
+     *
+     * @return the idle time in nanoseconds, {@code 0} if conversations never expire
+     */
+    public long getExpireAfterIdle() {
+        return expireAfterIdle;
+    }
+
+    @Override
+    public String toString() {
+        return String.format("MessageCachePolicy{maxMessagesPerMatch: %d / maxMessages: %d / expireAfterIdle: %dms}",
+                maxMessagesPerMatch, maxMessages, TimeUnit.NANOSECONDS.toMillis(expireAfterIdle)
+        );
+    }
+}
@@ -3,18 +3,31 @@ package com.rednit.tinder4j.api.cache;
 import com.rednit.tinder4j.api.TinderClient;
 import com.rednit.tinder4j.api.entities.Match;
 import com.rednit.tinder4j.api.entities.message.Message;
+import com.rednit.tinder4j.api.requests.PaginationAction;
+import com.rednit.tinder4j.requests.Response;
 import com.rednit.tinder4j.requests.async.CompletedRestAction;
 import com.rednit.tinder4j.api.requests.RestAction;
+import com.rednit.tinder4j.requests.async.FutureRestAction;
+import com.rednit.tinder4j.requests.async.PaginationActionImpl;
+import com.rednit.tinder4j.requests.async.PaginationActionImpl.Page;
 import com.rednit.tinder4j.requests.async.RestActionImpl;
 import com.rednit.tinder4j.requests.DataObject;
 import com.rednit.tinder4j.requests.Route;
+import org.jetbrains.annotations.NotNull;
 
 import java.util.*;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.locks.ReentrantLock;
 import java.util.function.Consumer;
 import java.util.stream.Collectors;
 
 /**
- * A simple cache for {@link Match Matches}.
+ * A cache for the {@link Message Messages} of a {@link Match}. The messages are ordered from oldest to newest and can
+ * be accessed by index. Older messages are loaded lazily, page by page, with {@link #loadOlder()} or
+ * {@link #getMessagesBefore(String, int)}. Pages are merged by message id, so no message is cached twice.
+ *
+ * <p>How many messages are kept is limited by the {@link MessageCachePolicy} of the {@link MessageCacheManager}.
+ * Evicted messages are requested again from the Tinder API when they are accessed.
  *
  * @author Kaktushose
  * @version 1.0.0
@@ -24,18 +37,22 @@ public class MessageCacheView implements Iterable<Message> {
 
     private final String matchId;
     private final TinderClient client;
-    private final LinkedList<Message> messages;
-    private boolean initialFetchDone;
-    private String pageToken;
+    private final MessageHistory history;
+    private final ReentrantLock lock;
+    private volatile boolean initialFetchDone;
+    private volatile String pageToken;
+    // bumped by evict(), so a page that was requested before the eviction isn't merged into the emptied history
+    private volatile long generation;
 
     /**
-     * Constructs a new MatchCacheView.
+     * Constructs a new MessageCacheView.
      *
      * @param matchId client the corresponding match id
      * @param client  client the corresponding {@link TinderClient} instance
      */
     public MessageCacheView(String matchId, TinderClient client) {
-        messages = new LinkedList<>();
+        history = new MessageHistory();
+        lock = new ReentrantLock();
         this.matchId = matchId;
         this.client = client;
         initialFetchDone = false;
@@ -49,91 +66,245 @@ public class MessageCacheView implements Iterable<Message> {
      * @return a {@link RestAction} holding the {@link Message}
      */
     public RestAction<Message> getMessage(String id) {
-        List<Message> filtered = messages.stream().filter(
-                message -> message.getId().equals(id)
-        ).collect(Collectors.toList());
-        if (filtered.size() == 0) {
+        Message message = history.getById(id);
+        if (message != null) {
+            record();
+        }
+        if (message == null) {
             return new RestActionImpl<>(client, Route.Self.GET_MESSAGE.compile(id), (response, request) ->
-                    new Message(DataObject.fromJson(response.body()), client)
+                    new Message(DataObject.fromJson(response.stream()), client)
             );
         }
-        return new CompletedRestAction<>(filtered.get(0));
+        return new CompletedRestAction<>(message);
     }
 
     /**
-     * Gets the first 60 {@link Message Messages} of a Match.
+     * Gets the cached {@link Message Messages}, oldest first. Will request the newest page of
+     * {@link Message Messages} from the Tinder API if no page was loaded yet.
      *
-     * @return a {@link RestAction} holding the first 60 {@link Message Messages}
+     * @return a {@link RestAction} holding the {@link Message Messages}
      */
-    @SuppressWarnings("unchecked")
     public RestAction<List<Message>> getMessages() {
         if (initialFetchDone) {
-            return new CompletedRestAction<>(new ArrayList<>(messages));
+            record();
+            return new CompletedRestAction<>(history.snapshot());
         }
-        return new RestActionImpl<>(client, Route.Match.GET_MESSAGES.compile(matchId, 60), (response, request) -> {
-            DataObject data = DataObject.fromJson(response.body()).getObject("data");
-            data.getArray("messages").forEach(object ->
-                    messages.addFirst(new Message(new DataObject((Map<String, Object>) object), client))
-            );
-            initialFetchDone = true;
-            if (data.hasKey("next_page_token")) {
-                pageToken = data.getString("next_page_token");
-            } else {
-                pageToken = null;
+        return new FutureRestAction<>(paginate(), () -> fetchOlder().thenApply(added -> history.snapshot()));
+    }
+
+    /**
+     * Requests the next page of older {@link Message Messages} from the Tinder API and adds it to the cache. Requests
+     * the newest page if no page was loaded yet.
+     *
+     * @return a {@link RestAction} holding the added {@link Message Messages}, oldest first, or an empty {@link List}
+     * if all messages are loaded already
+     */
+    public RestAction<List<Message>> loadOlder() {
+        if (!hasOlder()) {
+            record();
+            return new CompletedRestAction<>(new ArrayList<>());
+        }
+        return new FutureRestAction<>(paginate(), this::fetchOlder);
+    }
+
+    /**
+     * Gets up to {@code count} {@link Message Messages} that were sent before the given {@link Message}, oldest
+     * first. Older pages are requested from the Tinder API until enough messages are cached or all messages are
+     * loaded.
+     *
+     * @param messageId the id of the {@link Message}
+     * @param count     the maximum amount of {@link Message Messages} to get
+     * @return a {@link RestAction} holding the {@link Message Messages}, an empty {@link List} if the
+     * {@link Message} doesn't exist
+     */
+    public RestAction<List<Message>> getMessagesBefore(String messageId, int count) {
+        return new FutureRestAction<>(paginate(), () -> messagesBefore(messageId, count));
+    }
+
+    private CompletableFuture<List<Message>> messagesBefore(String messageId, int count) {
+        int index = history.indexOf(messageId);
+        if ((index >= count) || !hasOlder()) {
+            record();
+            if (index == -1) {
+                return CompletableFuture.completedFuture(new ArrayList<>());
+            }
+            return CompletableFuture.completedFuture(history.subList(Math.max(0, index - count), index));
+        }
+        return fetchOlder().thenCompose(added -> messagesBefore(messageId, count));
+    }
+
+    private CompletableFuture<List<Message>> fetchOlder() {
+        long generation = this.generation;
+        boolean initial = !initialFetchDone;
+        PaginationActionImpl<DataObject, Message> pagination = paginate();
+        return pagination.fetch(initial ? null : pageToken, pagination.getPageSize()).thenCompose(page -> {
+            List<Message> messages = page.getItems().stream().map(pagination::map).collect(Collectors.toList());
+            List<Message> added = merge(generation, initial, messages, page.getNextCursor(), false);
+            if (added == null) {
+                // evicted while the page was in flight, start over from the newest page
+                return fetchOlder();
             }
-            return messages;
+            record();
+            return CompletableFuture.completedFuture(added);
         });
     }
 
+    // merges a page unless the history was evicted since the page was requested, returns null in that case
+    private List<Message> merge(long generation, boolean initial, List<Message> messages, String nextCursor,
+                                boolean all) {
+        lock.lock();
+        try {
+            if (this.generation != generation) {
+                return null;
+            }
+            List<Message> added = initial
+                    ? history.mergeNewest(messages, nextCursor)
+                    : history.mergeOlder(messages, nextCursor);
+            if (all || history.size() == 0) {
+                pageToken = nextCursor;
+                initialFetchDone = true;
+            } else {
+                updateCursor();
+            }
+            return added;
+        } finally {
+            lock.unlock();
+        }
+    }
+
     /**
-     * Requests all messages from the Tinder API and fills the cache with them.
+     * Whether there are older {@link Message Messages} that aren't cached yet.
+     *
+     * @return {@code true} if there are older {@link Message Messages} to load
+     */
+    public boolean hasOlder() {
+        return !initialFetchDone || pageToken != null;
+    }
+
+    /**
+     * Requests all messages from the Tinder API and fills the cache with them. Continues from the oldest loaded page,
+     * thus pages that are cached already aren't requested again.
      * <p><b>This method is blocking.</b></p>
      *
-     * @return a {@link List} of all {@link Message Messages}
+     * @return a {@link List} of all {@link Message Messages}, oldest first
      */
     public List<Message> loadAllMessages() {
-        if (pageToken == null && initialFetchDone) {
-            return messages;
+        if (!hasOlder()) {
+            record();
+            return history.snapshot();
         }
-        loadMessages(pageToken).forEach(messages::addFirst);
-        return messages;
+        long generation = this.generation;
+        boolean initial = !initialFetchDone;
+        List<Message> messages = retrieveMessages().setCursor(initial ? null : pageToken).complete();
+        if (merge(generation, initial, messages, null, true) == null) {
+            // evicted while the pages were in flight, start over from the newest page
+            return loadAllMessages();
+        }
+        List<Message> result = history.snapshot();
+        record();
+        return result;
     }
 
-    @SuppressWarnings("unchecked")
-    private List<Message> loadMessages(String pageToken) {
-        Route.CompiledRoute route;
-        if (pageToken == null) {
-            route = Route.Match.GET_MESSAGES.compile(matchId, 60);
+    /**
+     * Requests all messages of the Match from the Tinder API page by page, newest first. This doesn't modify the
+     * cache.
+     *
+     * @return a {@link PaginationAction} holding all {@link Message Messages}
+     */
+    public PaginationAction<Message> retrieveMessages() {
+        return paginate();
+    }
+
+    // derives the cursor for older messages from the history, which changes after the oldest messages got trimmed
+    private void updateCursor() {
+        Map.Entry<Long, String> cursor = history.getOlderCursor();
+        if (cursor == null) {
+            initialFetchDone = false;
+            pageToken = null;
         } else {
-            route = Route.Match.GET_MESSAGES_PAGE.compile(matchId, 60, pageToken);
+            initialFetchDone = true;
+            pageToken = cursor.getValue();
         }
-        RestAction<List<Message>> restAction = new RestActionImpl<>(client, route, (response, request) -> {
-            DataObject data = DataObject.fromJson(response.body());
-            List<Message> result = new LinkedList<>();
-            data.getArray("messages").forEach(object ->
-                    result.add(new Message(new DataObject((Map<String, Object>) object), client))
-            );
-            if (data.hasKey("next_page_token")) {
-                this.pageToken = data.getString("next_page_token");
-            } else {
-                this.pageToken = null;
+    }
+
+    private void record() {
+        client.getMessageCacheManager().record(this);
+    }
+
+    int cachedSize() {
+        return history.size();
+    }
+
+    int trim(int keep) {
+        lock.lock();
+        try {
+            int removed = history.trimOldest(keep);
+            if (removed > 0) {
+                updateCursor();
             }
-            return result;
-        });
-        List<Message> result = restAction.complete();
-        if (this.pageToken != null) {
-            result.addAll(loadMessages(this.pageToken));
+            return removed;
+        } finally {
+            lock.unlock();
         }
-        return result;
+    }
+
+    void evict() {
+        lock.lock();
+        try {
+            generation++;
+            history.clear();
+            initialFetchDone = false;
+            pageToken = null;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    private PaginationActionImpl<DataObject, Message> paginate() {
+        return new PaginationActionImpl<>(client, Route.Match.GET_MESSAGES, Route.Match.GET_MESSAGES_PAGE,
+                MessageCacheView::readPage, object -> new Message(object, client), matchId
+        );
+    }
+
+    @SuppressWarnings("unchecked")
+    private static Page<DataObject> readPage(Response response) {
+        DataObject data = DataObject.fromJson(response.stream()).getObject("data");
+        List<DataObject> messages = new ArrayList<>();
+        data.getArray("messages").forEach(object -> messages.add(new DataObject((Map<String, Object>) object)));
+        return new Page<>(messages, data.hasKey("next_page_token") ? data.getString("next_page_token") : null);
+    }
+
+    /**
+     * Gets a cached {@link Message} by index, {@code 0} being the oldest cached {@link Message}.
+     *
+     * @param index the index of the {@link Message}
+     * @return the {@link Message}
+     * @throws IndexOutOfBoundsException if the index is out of range
+     */
+    public Message get(int index) {
+        return history.get(index);
     }
 
     /**
-     * Adds a {@link Message} to the cache.
+     * Gets the index of a cached {@link Message}.
+     *
+     * @param messageId the id of the {@link Message}
+     * @return the index of the {@link Message}, {@code -1} if the {@link Message} isn't cached
+     */
+    public int indexOf(String messageId) {
+        return history.indexOf(messageId);
+    }
+
+    /**
+     * Adds a {@link Message} to the cache as the newest {@link Message}. Does nothing if the {@link Message} is cached
+     * already.
      *
      * @param message the {@link Message} to add
      */
     public void addMessage(Message message) {
-        messages.add(message);
+        if (history.addLast(message)) {
+            record();
+        }
     }
 
     /**
@@ -142,21 +313,25 @@ public class MessageCacheView implements Iterable<Message> {
      * @return the size of the cache
      */
     public int size() {
-        return messages.size();
+        return history.size();
     }
 
+    @NotNull
     @Override
     public Iterator<Message> iterator() {
-        return messages.iterator();
+        record();
+        return history.snapshot().iterator();
     }
 
     @Override
     public void forEach(Consumer<? super Message> action) {
-        messages.forEach(action);
+        record();
+        history.snapshot().forEach(action);
     }
 
     @Override
     public Spliterator<Message> spliterator() {
-        return messages.spliterator();
+        record();
+        return history.snapshot().spliterator();
     }
 }
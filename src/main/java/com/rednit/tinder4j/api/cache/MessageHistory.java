@@ -0,0 +1,316 @@
+package com.rednit.tinder4j.api.cache;
+
+import com.rednit.tinder4j.api.entities.message.Message;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * The message history of a single match, ordered from oldest to newest. Messages are stored in fixed size chunks
+ * which are referenced from a chunk table with free space on both ends, so messages can be added at both ends in
+ * constant time and accessed by index without shifting. Every message gets a sequence number, so the index of a
+ * message id is known without a scan. All methods are guarded by a lock.
+ *
+ * <p>For every merged page the cursor of the following page is stored, keyed by the sequence of the oldest message of
+ * the page. After the oldest messages got trimmed, this yields the cursor to request them again.
+ */
+class MessageHistory {
+
+    private static final int CHUNK_SHIFT = 5;
+    private static final int CHUNK_SIZE = 1 << CHUNK_SHIFT;
+    private static final int CHUNK_MASK = CHUNK_SIZE - 1;
+    private final ReentrantLock lock;
+    private final Map<String, Long> sequences;
+    private final TreeMap<Long, String> pages;
+    private Message[][] chunks;
+    private int head;
+    private int size;
+    private long firstSequence;
+
+    MessageHistory() {
+        lock = new ReentrantLock();
+        sequences = new HashMap<>();
+        pages = new TreeMap<>();
+        chunks = new Message[4][];
+        head = chunks.length * CHUNK_SIZE / 2;
+    }
+
+    int size() {
+        lock.lock();
+        try {
+            return size;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    Message get(int index) {
+        lock.lock();
+        try {
+            if (index < 0 || index >= size) {
+                throw new IndexOutOfBoundsException("Index: " + index + ", Size: " + size);
+            }
+            return slot(head + index);
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    int indexOf(String messageId) {
+        lock.lock();
+        try {
+            Long sequence = sequences.get(messageId);
+            return sequence == null ? -1 : (int) (sequence - firstSequence);
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    Message getById(String messageId) {
+        lock.lock();
+        try {
+            Long sequence = sequences.get(messageId);
+            return sequence == null ? null : slot(head + (int) (sequence - firstSequence));
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    List<Message> subList(int fromIndex, int toIndex) {
+        lock.lock();
+        try {
+            if (fromIndex < 0 || toIndex > size || fromIndex > toIndex) {
+                throw new IndexOutOfBoundsException("From: " + fromIndex + ", To: " + toIndex + ", Size: " + size);
+            }
+            List<Message> result = new ArrayList<>(toIndex - fromIndex);
+            for (int i = fromIndex; i < toIndex; i++) {
+                result.add(slot(head + i));
+            }
+            return result;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    List<Message> snapshot() {
+        lock.lock();
+        try {
+            return subList(0, size);
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Adds a message as the newest one, if it isn't present yet.
+     *
+     * @return {@code true} if the message was added
+     */
+    boolean addLast(Message message) {
+        lock.lock();
+        try {
+            if (sequences.containsKey(message.getId())) {
+                return false;
+            }
+            if (head + size == chunks.length * CHUNK_SIZE) {
+                resize();
+            }
+            store(head + size, message);
+            sequences.put(message.getId(), firstSequence + size);
+            size++;
+            return true;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Merges a page that continues the history to the past. Messages that are present already are skipped.
+     *
+     * @param page       the page, newest message first
+     * @param nextCursor the cursor of the following page, {@code null} if this is the last page
+     * @return the added messages, oldest first
+     */
+    List<Message> mergeOlder(List<Message> page, String nextCursor) {
+        lock.lock();
+        try {
+            List<Message> added = new ArrayList<>();
+            for (Message message : page) {
+                if (addFirst(message)) {
+                    added.add(message);
+                }
+            }
+            Collections.reverse(added);
+            markPage(page, nextCursor);
+            return added;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Merges the newest page. Messages before the first known message are newer than the history and get appended,
+     * messages after the last known message are only added if that one is the oldest message of the history. If the
+     * page doesn't overlap with the history at all, the history is replaced by the page.
+     *
+     * @param page       the page, newest message first
+     * @param nextCursor the cursor of the following page, {@code null} if this is the last page
+     * @return the added messages, oldest first
+     */
+    List<Message> mergeNewest(List<Message> page, String nextCursor) {
+        lock.lock();
+        try {
+            int firstKnown = -1;
+            int lastKnown = -1;
+            for (int i = 0; i < page.size(); i++) {
+                if (sequences.containsKey(page.get(i).getId())) {
+                    if (firstKnown == -1) {
+                        firstKnown = i;
+                    }
+                    lastKnown = i;
+                }
+            }
+            if (firstKnown == -1) {
+                clear();
+                return mergeOlder(page, nextCursor);
+            }
+            List<Message> added = new ArrayList<>();
+            boolean continuesOldest = size > 0 && slot(head).getId().equals(page.get(lastKnown).getId());
+            if (continuesOldest) {
+                for (int i = lastKnown + 1; i < page.size(); i++) {
+                    if (addFirst(page.get(i))) {
+                        added.add(page.get(i));
+                    }
+                }
+                Collections.reverse(added);
+            }
+            for (int i = firstKnown - 1; i >= 0; i--) {
+                if (addLast(page.get(i))) {
+                    added.add(page.get(i));
+                }
+            }
+            markPage(page, nextCursor);
+            return added;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Gets the cursor of the page holding the messages older than the oldest message.
+     *
+     * @return an entry holding the cursor, {@code null} as value if there are no older messages, or {@code null} if
+     * the cursor isn't known and the history has to be requested from the newest page again
+     */
+    Map.Entry<Long, String> getOlderCursor() {
+        lock.lock();
+        try {
+            return size == 0 ? null : pages.ceilingEntry(firstSequence);
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Removes the oldest messages until the given amount of messages is left.
+     *
+     * @param keep the amount of messages to keep
+     * @return the amount of removed messages
+     */
+    int trimOldest(int keep) {
+        lock.lock();
+        try {
+            int removed = 0;
+            while (size > keep) {
+                Message[] chunk = chunks[head >> CHUNK_SHIFT];
+                sequences.remove(chunk[head & CHUNK_MASK].getId());
+                chunk[head & CHUNK_MASK] = null;
+                if ((head & CHUNK_MASK) == CHUNK_MASK) {
+                    chunks[head >> CHUNK_SHIFT] = null;
+                }
+                head++;
+                firstSequence++;
+                size--;
+                removed++;
+            }
+            pages.headMap(firstSequence).clear();
+            return removed;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    void clear() {
+        lock.lock();
+        try {
+            chunks = new Message[4][];
+            head = chunks.length * CHUNK_SIZE / 2;
+            size = 0;
+            sequences.clear();
+            pages.clear();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    private void markPage(List<Message> page, String nextCursor) {
+        if (page.isEmpty()) {
+            return;
+        }
+        Long sequence = sequences.get(page.get(page.size() - 1).getId());
+        if (sequence != null) {
+            pages.put(sequence, nextCursor);
+        }
+    }
+
+    private boolean addFirst(Message message) {
+        if (sequences.containsKey(message.getId())) {
+            return false;
+        }
+        if (head == 0) {
+            resize();
+        }
+        head--;
+        firstSequence--;
+        store(head, message);
+        sequences.put(message.getId(), firstSequence);
+        size++;
+        return true;
+    }
+
+    private Message slot(int slot) {
+        return chunks[slot >> CHUNK_SHIFT][slot & CHUNK_MASK];
+    }
+
+    private void store(int slot, Message message) {
+        Message[] chunk = chunks[slot >> CHUNK_SHIFT];
+        if (chunk == null) {
+            chunk = new Message[CHUNK_SIZE];
+            chunks[slot >> CHUNK_SHIFT] = chunk;
+        }
+        chunk[slot & CHUNK_MASK] = message;
+    }
+
+    // centers the used chunks in a new chunk table, the chunks themselves are never copied. The table only doubles if
+    // it is more than half full and halves if it is less than a quarter full, so trimming keeps the table bounded
+    private void resize() {
+        int first = head >> CHUNK_SHIFT;
+        int used = size == 0 ? 0 : ((head + size - 1) >> CHUNK_SHIFT) - first + 1;
+        int length = chunks.length;
+        if (used > length / 2) {
+            length *= 2;
+        } else if (used < length / 4 && length > 4) {
+            length /= 2;
+        }
+        Message[][] resized = new Message[length][];
+        int offset = (length - used) / 2;
+        System.arraycopy(chunks, first, resized, offset, used);
+        head = (offset << CHUNK_SHIFT) + (head & CHUNK_MASK);
+        chunks = resized;
+    }
+}
@@ -0,0 +1,242 @@
+package com.rednit.tinder4j.api.cache;
+
+import com.rednit.tinder4j.api.TinderClient;
+import com.rednit.tinder4j.api.entities.user.swipeable.UserProfile;
+import com.rednit.tinder4j.api.requests.RestAction;
+import com.rednit.tinder4j.requests.DataObject;
+import com.rednit.tinder4j.requests.Route;
+import com.rednit.tinder4j.requests.async.FutureRestAction;
+import com.rednit.tinder4j.requests.async.RestActionImpl;
+
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * Caches {@link UserProfile UserProfiles} by user id according to a {@link UserProfileCachePolicy}. Concurrent
+ * requests for the same id are coalesced, thus only one request is sent to the Tinder API and all callers share its
+ * result. This also applies if the policy doesn't keep any profiles.
+ *
+ * @author Kaktushose
+ * @version 1.0.0
+ * @see UserProfileCachePolicy
+ * @since 1.0.0
+ */
+public class UserProfileCache {
+
+    private final TinderClient client;
+    private final ConcurrentMap<String, CompletableFuture<UserProfile>> inFlight;
+    private final ReentrantLock lock;
+    private final LinkedHashMap<String, Entry> profiles;
+    private UserProfileCachePolicy policy;
+
+    /**
+     * Constructs a new UserProfileCache.
+     *
+     * @param client the corresponding {@link TinderClient} instance
+     */
+    public UserProfileCache(TinderClient client) {
+        this.client = client;
+        inFlight = new ConcurrentHashMap<>();
+        lock = new ReentrantLock();
+        profiles = new LinkedHashMap<>(16, 0.75f, true);
+        policy = UserProfileCachePolicy.defaults();
+    }
+
+    /**
+     * Gets an {@link UserProfile} by id. The cached profile is used if present, otherwise the profile is requested
+     * from the Tinder API, unless a request for the same id is already pending.
+     *
+     * @param id the id to get the user from
+     * @return a {@link RestAction} holding an {@link UserProfile}
+     */
+    public RestAction<UserProfile> getUserProfile(String id) {
+        RestAction<UserProfile> request = new RestActionImpl<>(client, Route.User.GET_USER.compile(id), (response, r) ->
+                new UserProfile(DataObject.fromJson(response.stream()).getObject("results"), client)
+        );
+        return new FutureRestAction<>(request, () -> load(id, request));
+    }
+
+    /**
+     * Gets the cached {@link UserProfile} of a user without sending any request.
+     *
+     * @param id the id of the user
+     * @return an {@link Optional} holding the {@link UserProfile}
+     */
+    public Optional<UserProfile> getCachedUserProfile(String id) {
+        lock.lock();
+        try {
+            Entry entry = profiles.get(id);
+            if (entry == null) {
+                return Optional.empty();
+            }
+            if (System.nanoTime() - entry.expiresAt >= 0) {
+                profiles.remove(id);
+                return Optional.empty();
+            }
+            return Optional.of(entry.profile);
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Removes the cached {@link UserProfile} of a user. A request that is pending at this point still caches its
+     * result.
+     *
+     * @param id the id of the user
+     */
+    public void invalidate(String id) {
+        lock.lock();
+        try {
+            profiles.remove(id);
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Removes all cached {@link UserProfile UserProfiles}.
+     */
+    public void invalidateAll() {
+        lock.lock();
+        try {
+            profiles.clear();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Gets the amount of cached {@link UserProfile UserProfiles}, including expired ones that weren't accessed since.
+     *
+     * @return the amount of cached {@link UserProfile UserProfiles}
+     */
+    public int size() {
+        lock.lock();
+        try {
+            return profiles.size();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Gets the amount of requests that are currently pending.
+     *
+     * @return the amount of pending requests
+     */
+    public int getPendingCount() {
+        return inFlight.size();
+    }
+
+    /**
+     * Gets the {@link UserProfileCachePolicy}.
+     *
+     * @return the {@link UserProfileCachePolicy}
+     */
+    public UserProfileCachePolicy getPolicy() {
+        lock.lock();
+        try {
+            return policy;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Sets the {@link UserProfileCachePolicy}. Profiles exceeding the new maximum size are evicted immediately, the
+     * new time to live only applies to profiles requested afterwards.
+     *
+     * @param policy the {@link UserProfileCachePolicy} to use
+     */
+    public void setPolicy(UserProfileCachePolicy policy) {
+        lock.lock();
+        try {
+            this.policy = policy;
+            if (!policy.isEnabled()) {
+                profiles.clear();
+            }
+            enforce();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    private CompletableFuture<UserProfile> load(String id, RestAction<UserProfile> request) {
+        Optional<UserProfile> cached = getCachedUserProfile(id);
+        if (cached.isPresent()) {
+            return CompletableFuture.completedFuture(cached.get());
+        }
+        CompletableFuture<UserProfile> future = new CompletableFuture<>();
+        CompletableFuture<UserProfile> pending = inFlight.putIfAbsent(id, future);
+        if (pending != null) {
+            // callers get a copy, so none of them can complete or cancel the shared future
+            return pending.copy();
+        }
+        // another request might have finished between the lookup and registering this one
+        cached = getCachedUserProfile(id);
+        if (cached.isPresent()) {
+            inFlight.remove(id, future);
+            future.complete(cached.get());
+            return future.copy();
+        }
+        CompletableFuture<UserProfile> submitted;
+        try {
+            submitted = request.submit();
+        } catch (Throwable t) {
+            inFlight.remove(id, future);
+            future.completeExceptionally(t);
+            return future.copy();
+        }
+        submitted.whenComplete((profile, throwable) -> {
+            if (throwable == null) {
+                put(id, profile);
+            }
+            inFlight.remove(id, future);
+            if (throwable == null) {
+                future.complete(profile);
+            } else {
+                future.completeExceptionally(throwable);
+            }
+        });
+        return future.copy();
+    }
+
+    private void put(String id, UserProfile profile) {
+        lock.lock();
+        try {
+            if (!policy.isEnabled()) {
+                return;
+            }
+            profiles.put(id, new Entry(profile, System.nanoTime() + policy.getTimeToLive()));
+            enforce();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    private void enforce() {
+        Iterator<Map.Entry<String, Entry>> iterator = profiles.entrySet().iterator();
+        while (profiles.size() > policy.getMaxSize() && iterator.hasNext()) {
+            iterator.next();
+            iterator.remove();
+        }
+    }
+
+    private static class Entry {
+
+        private final UserProfile profile;
+        private final long expiresAt;
+
+        private Entry(UserProfile profile, long expiresAt) {
+            this.profile = profile;
+            this.expiresAt = expiresAt;
+        }
+    }
+}
@@ -0,0 +1,108 @@
+package com.rednit.tinder4j.api.cache;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Limits how long and how many {@link com.rednit.tinder4j.api.entities.user.swipeable.UserProfile UserProfiles} are
+ * kept in the {@link UserProfileCache} of a {@link com.rednit.tinder4j.api.TinderClient TinderClient}. A policy is
+ * immutable, every {@code with...} method returns a new policy.
+ *
+ * @author Kaktushose
+ * @version 1.0.0
+ * @see UserProfileCache
+ * @since 1.0.0
+ */
+public class UserProfileCachePolicy {
+
+    private static final UserProfileCachePolicy DEFAULT = new UserProfileCachePolicy(TimeUnit.MINUTES.toNanos(5), 1000);
+    private static final UserProfileCachePolicy DISABLED = new UserProfileCachePolicy(0, 0);
+    private final long timeToLive;
+    private final int maxSize;
+
+    private UserProfileCachePolicy(long timeToLive, int maxSize) {
+        this.timeToLive = timeToLive;
+        this.maxSize = maxSize;
+    }
+
+    /**
+     * Gets the default policy, which keeps up to 1000 profiles for 5 minutes.
+     *
+     * @return the default policy
+     */
+    public static UserProfileCachePolicy defaults() {
+        return DEFAULT;
+    }
+
+    /**
+     * Gets a policy that doesn't keep any profiles. Concurrent requests for the same profile are still coalesced.
+     *
+     * @return a policy that doesn't keep any profiles
+     */
+    public static UserProfileCachePolicy disabled() {
+        return DISABLED;
+    }
+
+    /**
+     * Sets the time a profile is kept after it was requested.
+     *
+     * @param duration the time to keep a profile, {@code 0} to not keep profiles at all
+     * @param unit     the {@link TimeUnit} of the duration
+     * @return a new policy with the given time to live
+     * @throws IllegalArgumentException if the duration is negative
+     */
+    public UserProfileCachePolicy withTimeToLive(long duration, TimeUnit unit) {
+        if (duration < 0) {
+            throw new IllegalArgumentException("Duration cannot be negative!");
+        }
+        return new UserProfileCachePolicy(unit.toNanos(duration), maxSize);
+    }
+
+    /**
+     * Limits the amount of kept profiles. Once the limit is exceeded, profiles are evicted in least recently used
+     * order.
+     *
+     * @param maxSize the maximum amount of profiles, {@code 0} to not keep profiles at all
+     * @return a new policy with the given limit
+     * @throws IllegalArgumentException if the limit is negative
+     */
+    public UserProfileCachePolicy withMaxSize(int maxSize) {
+        if (maxSize < 0) {
+            throw new IllegalArgumentException("Max size cannot be negative!");
+        }
+        return new UserProfileCachePolicy(timeToLive, maxSize);
+    }
+
+    /**
+     * Gets the time a profile is kept after it was requested.
+     *
+     * @return the time to live in nanoseconds
+     */
+    public long getTimeToLive() {
+        return timeToLive;
+    }
+
+    /**
+     * Gets the maximum amount of kept profiles.
+     *
+     * @return the maximum amount of profiles
+     */
+    public int getMaxSize() {
+        return maxSize;
+    }
+
+    /**
+     * Whether this policy keeps any profiles.
+     *
+     * @return {@code true} if this policy keeps profiles
+     */
+    public boolean isEnabled() {
+        return timeToLive > 0 && maxSize > 0;
+    }
+
+    @Override
+    public String toString() {
+        return String.format("UserProfileCachePolicy{timeToLive: %dms / maxSize: %d}",
+                TimeUnit.NANOSECONDS.toMillis(timeToLive), maxSize
+        );
+    }
+}
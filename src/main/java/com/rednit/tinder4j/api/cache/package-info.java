@@ -1,5 +1,6 @@
 /**
  * CacheViews for {@link com.rednit.tinder4j.requests.Route.Match Matches} and
- * {@link com.rednit.tinder4j.api.entities.message.Message Messages}.
+ * {@link com.rednit.tinder4j.api.entities.message.Message Messages}, as well as the cache for
+ * {@link com.rednit.tinder4j.api.entities.user.swipeable.UserProfile UserProfiles}.
  */
 package com.rednit.tinder4j.api.cache;
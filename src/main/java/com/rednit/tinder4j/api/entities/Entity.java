@@ -35,6 +35,21 @@ public abstract class Entity {
         this.client = client;
     }
 
+    /**
+     * Constructs a new Entity.
+     *
+     * @param id     the id of the Entity
+     * @param client the corresponding {@link TinderClient} instance
+     * @throws IllegalArgumentException if the id is null
+     */
+    protected Entity(String id, TinderClient client) {
+        if (id == null) {
+            throw new IllegalArgumentException("Not an entity!");
+        }
+        this.id = id;
+        this.client = client;
+    }
+
     /**
      * Gets the id of the entity.
      *
@@ -3,19 +3,23 @@ package com.rednit.tinder4j.api.entities;
 import com.rednit.tinder4j.api.TinderClient;
 import com.rednit.tinder4j.api.entities.message.Message;
 import com.rednit.tinder4j.api.entities.photo.MatchPhoto;
+import com.rednit.tinder4j.api.entities.user.GenericUser;
 import com.rednit.tinder4j.api.entities.user.MatchedUser;
 import com.rednit.tinder4j.api.requests.RestAction;
 import com.rednit.tinder4j.requests.async.RestActionImpl;
 import com.rednit.tinder4j.requests.DataObject;
+import com.rednit.tinder4j.requests.EntityData;
+import com.rednit.tinder4j.requests.Lazy;
 import com.rednit.tinder4j.requests.Route;
 import com.rednit.tinder4j.api.cache.MessageCacheView;
 import okhttp3.MediaType;
 import okhttp3.RequestBody;
 
 import java.util.Optional;
+import java.util.OptionalInt;
 
 /**
- * Represents a Tinder match.
+ * Represents a Tinder match. The {@link MatchedUser} and the liked content are decoded on first access.
  *
  * @author Kaktushose
  * @version 1.0.0
@@ -36,11 +40,13 @@ public class Match extends Entity {
     private final boolean isOpener;
     private final boolean following;
     private final boolean followingMoments;
-    private final MatchedUser matchedUser;
-    private final MatchPhoto likedContent;
+    private final String matchedUserId;
+    private final String matchedUserName;
+    private final String matchedUserBirthdate;
+    private final Lazy<MatchedUser> matchedUser;
+    private final Lazy<MatchPhoto> likedContent;
     private final boolean seen;
     private final String lastSeenMessageId;
-    private final MessageCacheView messageCacheView;
 
     /**
      * Constructs a new Match.
@@ -63,19 +69,16 @@ public class Match extends Entity {
         isOpener = match.getBoolean("is_opener");
         following = match.getBoolean("following");
         followingMoments = match.getBoolean("following_moments");
-        matchedUser = new MatchedUser(match.getObject("person"), getClient());
+        DataObject person = match.getObject("person");
+        matchedUserId = person.hasKey("_id") ? person.getString("_id") : person.getString("id");
+        matchedUserName = person.hasKey("name") ? person.getString("name") : null;
+        matchedUserBirthdate = person.hasKey("birth_date") ? person.getString("birth_date") : null;
+        matchedUser = Lazy.of(() -> new MatchedUser(person, getClient()));
         if (match.hasKey("liked_content")) {
-            if (isOpener) {
-                likedContent = new MatchPhoto(
-                        match.getObject("liked_content").getObject("by_closer").getObject("photo"), getClient()
-                );
-            } else {
-                likedContent = new MatchPhoto(
-                        match.getObject("liked_content").getObject("by_opener").getObject("photo"), getClient()
-                );
-            }
+            DataObject content = match.getObject("liked_content").getObject(isOpener ? "by_closer" : "by_opener");
+            likedContent = Lazy.of(() -> new MatchPhoto(content.getObject("photo"), getClient()));
         } else {
-            likedContent = null;
+            likedContent = Lazy.empty();
         }
         if (match.hasKey("seen")) {
             DataObject seenObject = match.getObject("seen");
@@ -89,7 +92,47 @@ public class Match extends Entity {
             seen = false;
             lastSeenMessageId = null;
         }
-        messageCacheView = new MessageCacheView(getId(), getClient());
+    }
+
+    /**
+     * Constructs a new Match.
+     *
+     * @param match  the {@link EntityData.Match} to construct the Match from
+     * @param client the corresponding {@link TinderClient} instance
+     */
+    public Match(EntityData.Match match, TinderClient client) {
+        super(match.id != null ? match.id : match.underscoreId, client);
+        closed = match.closed;
+        createdDate = match.createdDate;
+        dead = match.dead;
+        lastActivityDate = match.lastActivityDate;
+        pending = match.pending;
+        isSuperLike = match.isSuperLike;
+        isBoostMatch = match.isBoostMatch;
+        isSuperBoostMatch = match.isSuperBoostMatch;
+        isExperiencesMatch = match.isExperiencesMatch;
+        isFastMatch = match.isFastMatch;
+        isOpener = match.isOpener;
+        following = match.following;
+        followingMoments = match.followingMoments;
+        EntityData.User person = match.person;
+        matchedUserId = person.id;
+        matchedUserName = person.name;
+        matchedUserBirthdate = person.birthDate;
+        matchedUser = Lazy.of(() -> new MatchedUser(person, getClient()));
+        if (match.likedContent != null) {
+            EntityData.PhotoHolder holder = isOpener ? match.likedContent.byCloser : match.likedContent.byOpener;
+            likedContent = Lazy.of(() -> new MatchPhoto(holder.photo, getClient()));
+        } else {
+            likedContent = Lazy.empty();
+        }
+        if (match.seen != null) {
+            seen = match.seen.matchSeen;
+            lastSeenMessageId = match.seen.lastSeenMessageId;
+        } else {
+            seen = false;
+            lastSeenMessageId = null;
+        }
     }
 
     /**
@@ -210,7 +253,45 @@ public class Match extends Entity {
      * @return the {@link MatchedUser}
      */
     public MatchedUser getMatchedUser() {
-        return matchedUser;
+        return matchedUser.get();
+    }
+
+    /**
+     * Gets the id of the {@link MatchedUser} without decoding the user.
+     *
+     * @return the id of the {@link MatchedUser}
+     */
+    public String getMatchedUserId() {
+        return matchedUserId;
+    }
+
+    /**
+     * Gets the name of the {@link MatchedUser} without decoding the user.
+     *
+     * @return an {@link Optional} holding the name of the {@link MatchedUser}
+     */
+    public Optional<String> getMatchedUserName() {
+        return Optional.ofNullable(matchedUserName);
+    }
+
+    /**
+     * Gets the age of the {@link MatchedUser} without decoding the user.
+     *
+     * @return an {@link OptionalInt} holding the age of the {@link MatchedUser}, empty if the birthdate is hidden
+     * @see GenericUser#getAge()
+     */
+    public OptionalInt getMatchedUserAge() {
+        return GenericUser.calculateAge(matchedUserBirthdate);
+    }
+
+    /**
+     * Gets the year of birth of the {@link MatchedUser} without decoding the user.
+     *
+     * @return an {@link OptionalInt} holding the year of birth of the {@link MatchedUser}, empty if the birthdate is
+     * hidden
+     */
+    public OptionalInt getMatchedUserBirthYear() {
+        return GenericUser.parseBirthYear(matchedUserBirthdate);
     }
 
     /**
@@ -219,7 +300,7 @@ public class Match extends Entity {
      * @return an {@link Optional} holding the {@link MatchPhoto} one of the participants liked
      */
     public Optional<MatchPhoto> getLikedContent() {
-        return Optional.ofNullable(likedContent);
+        return Optional.ofNullable(likedContent.get());
     }
 
     /**
@@ -241,12 +322,13 @@ public class Match extends Entity {
     }
 
     /**
-     * Gets the {@link MessageCacheView}.
+     * Gets the {@link MessageCacheView}. The {@link MessageCacheView} is created on first access and shared by all
+     * instances of this match.
      *
      * @return the {@link MessageCacheView}
      */
     public MessageCacheView getMessageCacheView() {
-        return messageCacheView;
+        return getClient().getMessageCacheManager().getMessageCacheView(getId());
     }
 
     /**
@@ -264,7 +346,7 @@ public class Match extends Entity {
                 getClient(),
                 Route.Match.SEND_MESSAGE.compile(getId()),
                 body,
-                (response, request) -> new Message(DataObject.fromJson(response.body()), getClient())
+                (response, request) -> new Message(DataObject.fromJson(response.stream()), getClient())
         );
     }
 
@@ -275,11 +357,12 @@ public class Match extends Entity {
      */
     public RestAction<Void> delete() {
         getClient().getMatchCacheView().remove(getId());
+        getClient().getMessageCacheManager().remove(getId());
         return new RestActionImpl<>(getClient(), Route.Match.DELETE_MATCH.compile(getId()));
     }
 
     @Override
     public String toString() {
-        return String.format("Match{id: %s / %s}", getId(), matchedUser);
+        return String.format("Match{id: %s / %s}", getId(), matchedUser.get());
     }
 }
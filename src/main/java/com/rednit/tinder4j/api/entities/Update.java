@@ -1,13 +1,20 @@
 package com.rednit.tinder4j.api.entities;
 
+import com.rednit.tinder4j.api.TinderClient;
+import com.rednit.tinder4j.api.entities.message.Message;
 import com.rednit.tinder4j.requests.DataObject;
+import org.jetbrains.annotations.Nullable;
 
 import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.Optional;
+import java.util.OptionalLong;
 
 /**
- * Describes an update sent by Tinder containing information about new matches and messages.
+ * Describes an update sent by Tinder containing information about new matches, new messages and removed matches.
  *
  * @author Kaktushose
  * @version 1.0.0
@@ -15,37 +22,112 @@ import java.util.Map;
  */
 public class Update {
 
+    private final List<Match> matches;
     private final List<String> newMatches;
     private final List<NewMessage> newMessages;
+    private final List<String> unmatched;
+    private final Map<String, Match> unmatchedMatches;
+    private final String lastActivityDate;
     private final DataObject response;
 
     /**
      * Constructs a new Update.
      *
      * @param update the {@link DataObject} to construct the Update from
+     * @deprecated the entities of this update don't belong to any client, use
+     * {@link #Update(DataObject, String, TinderClient)} instead
      */
-    @SuppressWarnings("unchecked")
+    @Deprecated
     public Update(DataObject update) {
+        this(update, null, null);
+    }
+
+    /**
+     * Constructs a new Update.
+     *
+     * @param update the {@link DataObject} to construct the Update from
+     * @param since  the last activity date the update was requested with, used to tell new matches apart
+     * @param client the corresponding {@link TinderClient} instance
+     */
+    @SuppressWarnings("unchecked")
+    public Update(DataObject update, @Nullable String since, TinderClient client) {
+        matches = new ArrayList<>();
         newMatches = new ArrayList<>();
         newMessages = new ArrayList<>();
+        unmatched = new ArrayList<>();
+        unmatchedMatches = new HashMap<>();
         response = update;
-        update.getArray("matches").forEach(matchObject -> {
-            DataObject match = new DataObject((Map<String, Object>) matchObject);
-            boolean seen = true;
-            if (match.hasKey("seen")) {
-                seen = match.getObject("seen").getBoolean("match_seen");
-            }
-            if (seen) {
-                match.getArray("messages").forEach(messageObject -> {
-                    DataObject message = new DataObject((Map<String, Object>) messageObject);
-                    newMessages.add(new NewMessage(message.getString("_id"), message.getString("match_id")));
-                });
-            }
-        });
+        if (update.hasKey("last_activity_date") && !"".equals(update.getString("last_activity_date"))) {
+            lastActivityDate = update.getString("last_activity_date");
+        } else {
+            lastActivityDate = null;
+        }
+        if (update.hasKey("matches")) {
+            update.getArray("matches").forEach(matchObject -> {
+                DataObject match = new DataObject((Map<String, Object>) matchObject);
+                // matches that only got new messages are sent without the person
+                if (match.hasKey("person")) {
+                    Match entity = new Match(match, client);
+                    matches.add(entity);
+                    if (isNew(entity, since)) {
+                        newMatches.add(entity.getId());
+                    }
+                }
+                if (match.hasKey("messages")) {
+                    match.getArray("messages").forEach(messageObject -> {
+                        Message message = new Message(new DataObject((Map<String, Object>) messageObject), client);
+                        newMessages.add(new NewMessage(message));
+                    });
+                }
+            });
+        }
+        if (update.hasKey("blocks")) {
+            update.getArray("blocks").forEach(matchId -> unmatched.add((String) matchId));
+        }
+    }
+
+    private Update(Update update, Collection<Match> unmatchedMatches) {
+        matches = update.matches;
+        newMatches = update.newMatches;
+        newMessages = update.newMessages;
+        unmatched = update.unmatched;
+        lastActivityDate = update.lastActivityDate;
+        response = update.response;
+        this.unmatchedMatches = new HashMap<>(update.unmatchedMatches);
+        unmatchedMatches.forEach(match -> this.unmatchedMatches.put(match.getId(), match));
+    }
+
+    /**
+     * Gets a copy of this update that holds the given removed {@link Match Matches}. The client uses this to keep the
+     * cached matches of unmatched users, before it removes them from the cache.
+     *
+     * @param unmatchedMatches the removed {@link Match Matches}
+     * @return a new Update holding the removed {@link Match Matches}
+     * @see #getUnmatchedMatch(String)
+     */
+    public Update withUnmatchedMatches(Collection<Match> unmatchedMatches) {
+        return new Update(this, unmatchedMatches);
+    }
+
+    private static boolean isNew(Match match, @Nullable String since) {
+        if (match.getCreatedDate() != null && since != null) {
+            return match.getCreatedDate().compareTo(since) > 0;
+        }
+        return !match.isSeen();
     }
 
     /**
-     * A possibly empty {@link List} of new matches.
+     * A possibly empty {@link List} of all {@link Match Matches} that were sent with their full data, this includes
+     * new matches.
+     *
+     * @return a possibly empty {@link List} of {@link Match Matches}
+     */
+    public List<Match> getMatches() {
+        return matches;
+    }
+
+    /**
+     * A possibly empty {@link List} of the ids of new matches.
      *
      * @return a possibly empty {@link List} of new matches
      */
@@ -62,6 +144,49 @@ public class Update {
         return newMessages;
     }
 
+    /**
+     * A possibly empty {@link List} of the ids of removed matches.
+     *
+     * @return a possibly empty {@link List} of removed matches
+     */
+    public List<String> getUnmatched() {
+        return unmatched;
+    }
+
+    /**
+     * Gets a removed {@link Match} by id. This is only present if the {@link Match} was cached when this update
+     * arrived.
+     *
+     * @param matchId the id of the removed {@link Match}
+     * @return an {@link Optional} holding the removed {@link Match}
+     */
+    public Optional<Match> getUnmatchedMatch(String matchId) {
+        return Optional.ofNullable(unmatchedMatches.get(matchId));
+    }
+
+    /**
+     * Gets the last activity date of this update. Use it to request the next update.
+     *
+     * @return an {@link Optional} holding the last activity date
+     */
+    public Optional<String> getLastActivityDate() {
+        return Optional.ofNullable(lastActivityDate);
+    }
+
+    /**
+     * Gets the poll interval suggested by Tinder in ms.
+     *
+     * @param persistent {@code true} to get the interval to use while idle
+     * @return an {@link OptionalLong} holding the poll interval
+     */
+    public OptionalLong getPollInterval(boolean persistent) {
+        if (!response.hasKey("poll_interval")) {
+            return OptionalLong.empty();
+        }
+        Object interval = response.getObject("poll_interval").get(persistent ? "persistent" : "standard");
+        return interval instanceof Number ? OptionalLong.of(((Number) interval).longValue()) : OptionalLong.empty();
+    }
+
     /**
      * Gets the raw {@link DataObject} holding the response. This class doesn't wrap the complete update object, thus
      * this method can be used to access the other fields.
@@ -74,7 +199,9 @@ public class Update {
 
     @Override
     public String toString() {
-        return String.format("Update{newMatches: %d / newMessages: %d}", newMatches.size(), newMessages.size());
+        return String.format("Update{newMatches: %d / newMessages: %d / unmatched: %d}",
+                newMatches.size(), newMessages.size(), unmatched.size()
+        );
     }
 
     /**
@@ -88,16 +215,32 @@ public class Update {
 
         private final String matchId;
         private final String messageId;
+        private final Message message;
 
         /**
-         * Constructs a new NewMessage.
+         * Constructs a new NewMessage without the {@link Message} itself.
          *
-         * @param matchId   corresponding the match id
-         * @param messageId corresponding the message id
+         * @param matchId   the corresponding match id
+         * @param messageId the corresponding message id
+         * @deprecated {@link #getMessage()} returns {@code null} for such messages, use {@link #NewMessage(Message)}
+         * instead
          */
+        @Deprecated
         public NewMessage(String matchId, String messageId) {
             this.matchId = matchId;
             this.messageId = messageId;
+            this.message = null;
+        }
+
+        /**
+         * Constructs a new NewMessage.
+         *
+         * @param message the new {@link Message}
+         */
+        public NewMessage(Message message) {
+            this.matchId = message.getMatchId();
+            this.messageId = message.getId();
+            this.message = message;
         }
 
         /**
@@ -118,6 +261,15 @@ public class Update {
             return messageId;
         }
 
+        /**
+         * Gets the {@link Message}.
+         *
+         * @return the {@link Message}, {@code null} if this was constructed with the ids only
+         */
+        public Message getMessage() {
+            return message;
+        }
+
         @Override
         public String toString() {
             return String.format("NewMessage{matchId: %s / messageId: %s}", matchId, messageId);
@@ -1,6 +1,7 @@
 package com.rednit.tinder4j.api.entities.photo;
 
 import com.rednit.tinder4j.requests.DataObject;
+import com.rednit.tinder4j.requests.EntityData;
 
 import java.util.ArrayList;
 import java.util.List;
@@ -37,6 +38,13 @@ public class Algorithm {
             yOffsetPct = scope.getDouble("y_offset_pct");
         }
 
+        public FacialScope(EntityData.FacialScope scope) {
+            widthPct = scope.widthPct;
+            xOffsetPct = scope.xOffsetPct;
+            heightPct = scope.heightPct;
+            yOffsetPct = scope.yOffsetPct;
+        }
+
         public double getWidthPct() {
             return widthPct;
         }
@@ -71,6 +79,11 @@ public class Algorithm {
             boundingBoxPercentage = face.getDouble("bounding_box_percentage");
         }
 
+        public Face(EntityData.Face face) {
+            algorithm = new FacialScope(face.algo);
+            boundingBoxPercentage = face.boundingBoxPercentage;
+        }
+
         public FacialScope getAlgorithm() {
             return algorithm;
         }
@@ -118,6 +131,16 @@ public class Algorithm {
             }
         }
 
+        public CropInfo(EntityData.CropInfo cropInfo) {
+            userCustomized = cropInfo.userCustomized;
+            user = cropInfo.user == null ? null : new FacialScope(cropInfo.user);
+            algorithm = cropInfo.algo == null ? null : new FacialScope(cropInfo.algo);
+            faces = new ArrayList<>();
+            if (cropInfo.faces != null) {
+                cropInfo.faces.forEach(face -> faces.add(new Face(face)));
+            }
+        }
+
         public boolean isUserCustomized() {
             return userCustomized;
         }
@@ -3,13 +3,18 @@ package com.rednit.tinder4j.api.entities.photo;
 import com.rednit.tinder4j.api.TinderClient;
 import com.rednit.tinder4j.api.entities.Entity;
 import com.rednit.tinder4j.requests.DataObject;
+import com.rednit.tinder4j.requests.EntityData;
+import com.rednit.tinder4j.requests.Lazy;
 
 import java.util.ArrayList;
+import java.util.Collections;
 import java.util.List;
 import java.util.Map;
 
 /**
- * Top level class for photos. All photo objects at least contain the information held inside this class.
+ * Top level class for photos. All photo objects at least contain the information held inside this class. Photos and
+ * their images are shared by id through the {@link com.rednit.tinder4j.requests.EntityInterner EntityInterner} of the
+ * client, thus the returned lists are unmodifiable.
  *
  * @author Kaktushose
  * @version 1.0.0
@@ -18,9 +23,9 @@ import java.util.Map;
  */
 public class GenericPhoto extends Entity {
 
-    private final Algorithm.CropInfo cropInfo;
+    private final Lazy<Algorithm.CropInfo> cropInfo;
     private final String url;
-    private final List<SizedImage> processedFiles;
+    private final Lazy<List<SizedImage>> processedFiles;
     private final String fileName;
     private final String extension;
     private final String type;
@@ -34,12 +39,15 @@ public class GenericPhoto extends Entity {
     @SuppressWarnings("unchecked")
     public GenericPhoto(DataObject photo, TinderClient client) {
         super(photo, client);
-        cropInfo = new Algorithm.CropInfo(photo.getObject("crop_info"));
-        url = photo.getString("url");
-        processedFiles = new ArrayList<>();
-        photo.getArray("processedFiles").forEach(object ->
-                processedFiles.add(new SizedImage(new DataObject((Map<String, Object>) object)))
-        );
+        cropInfo = Lazy.of(() -> new Algorithm.CropInfo(photo.getObject("crop_info")));
+        url = client.getEntityInterner().intern("url", getId(), photo.getString("url"));
+        processedFiles = Lazy.of(() -> client.getEntityInterner().intern("processedFiles", getId(), () -> {
+            List<SizedImage> result = new ArrayList<>();
+            photo.getArray("processedFiles").forEach(object ->
+                    result.add(new SizedImage(new DataObject((Map<String, Object>) object)))
+            );
+            return Collections.unmodifiableList(result);
+        }));
         fileName = photo.getString("fileName");
         extension = photo.getString("extension");
 
@@ -50,13 +58,35 @@ public class GenericPhoto extends Entity {
         }
     }
 
+    /**
+     * Constructs a new GenericPhoto.
+     *
+     * @param photo  the {@link EntityData.Photo} to construct the GenericPhoto from
+     * @param client the corresponding {@link TinderClient} instance
+     */
+    public GenericPhoto(EntityData.Photo photo, TinderClient client) {
+        super(photo.id, client);
+        EntityData.CropInfo rawCropInfo = photo.cropInfo;
+        cropInfo = Lazy.of(() -> new Algorithm.CropInfo(rawCropInfo));
+        url = client.getEntityInterner().intern("url", getId(), photo.url);
+        List<EntityData.SizedImage> rawFiles = photo.processedFiles;
+        processedFiles = Lazy.of(() -> client.getEntityInterner().intern("processedFiles", getId(), () -> {
+            List<SizedImage> result = new ArrayList<>(rawFiles.size());
+            rawFiles.forEach(image -> result.add(new SizedImage(image)));
+            return Collections.unmodifiableList(result);
+        }));
+        fileName = photo.fileName;
+        extension = photo.extension;
+        type = photo.type != null ? photo.type : photo.mediaType;
+    }
+
     /**
      * Gets the {@link com.rednit.tinder4j.api.entities.photo.Algorithm.CropInfo CropInfo}.
      *
      * @return the {@link com.rednit.tinder4j.api.entities.photo.Algorithm.CropInfo CropInfo}
      */
     public Algorithm.CropInfo getCropInfo() {
-        return cropInfo;
+        return cropInfo.get();
     }
 
     /**
@@ -74,7 +104,7 @@ public class GenericPhoto extends Entity {
      * @return a {@link List} of {@link SizedImage SizedImages}
      */
     public List<SizedImage> getProcessedFiles() {
-        return processedFiles;
+        return processedFiles.get();
     }
 
     /**
@@ -2,8 +2,11 @@ package com.rednit.tinder4j.api.entities.photo;
 
 import com.rednit.tinder4j.api.TinderClient;
 import com.rednit.tinder4j.requests.DataObject;
+import com.rednit.tinder4j.requests.EntityData;
+import com.rednit.tinder4j.requests.Lazy;
 
 import java.util.ArrayList;
+import java.util.Collections;
 import java.util.List;
 import java.util.Map;
 
@@ -19,7 +22,7 @@ import java.util.Map;
  */
 public class MatchPhoto extends GenericPhoto {
 
-    private final List<SizedImage> assets;
+    private final Lazy<List<SizedImage>> assets;
     private final int webpQf;
     private final int rank;
     private final double score;
@@ -34,10 +37,13 @@ public class MatchPhoto extends GenericPhoto {
     @SuppressWarnings("unchecked")
     public MatchPhoto(DataObject photo, TinderClient client) {
         super(photo, client);
-        assets = new ArrayList<>();
-        photo.getArray("assets").forEach(object ->
-                assets.add(new SizedImage(new DataObject((Map<String, Object>) object)))
-        );
+        assets = Lazy.of(() -> client.getEntityInterner().intern("assets", getId(), () -> {
+            List<SizedImage> result = new ArrayList<>();
+            photo.getArray("assets").forEach(object ->
+                    result.add(new SizedImage(new DataObject((Map<String, Object>) object)))
+            );
+            return Collections.unmodifiableList(result);
+        }));
 
         if (getType().equals("image")) {
             if (!photo.hasKey("webp_qf")) {
@@ -56,6 +62,38 @@ public class MatchPhoto extends GenericPhoto {
         }
     }
 
+    /**
+     * Constructs a new MatchPhoto.
+     *
+     * @param photo  the {@link EntityData.Photo} to construct the MatchPhoto from
+     * @param client the corresponding {@link TinderClient} instance
+     */
+    public MatchPhoto(EntityData.Photo photo, TinderClient client) {
+        super(photo, client);
+        List<EntityData.SizedImage> rawAssets = photo.assets;
+        assets = Lazy.of(() -> client.getEntityInterner().intern("assets", getId(), () -> {
+            List<SizedImage> result = new ArrayList<>(rawAssets.size());
+            rawAssets.forEach(image -> result.add(new SizedImage(image)));
+            return Collections.unmodifiableList(result);
+        }));
+
+        if (getType().equals("image")) {
+            if (photo.webpQf == null || photo.webpQf.isEmpty()) {
+                webpQf = 0;
+            } else {
+                webpQf = photo.webpQf.get(0);
+            }
+            rank = photo.rank;
+            score = photo.score;
+            winCount = photo.winCount;
+        } else {
+            webpQf = 0;
+            rank = 0;
+            score = 0;
+            winCount = 0;
+        }
+    }
+
     /**
      * Whether this MatchPhoto has assets.
      *
@@ -63,7 +101,7 @@ public class MatchPhoto extends GenericPhoto {
      * @see MatchPhoto#getAssets()
      */
     public boolean hasAssets() {
-        return !assets.isEmpty();
+        return !assets.get().isEmpty();
     }
 
     /**
@@ -73,7 +111,7 @@ public class MatchPhoto extends GenericPhoto {
      * @return a possibly empty {@link List} of {@link SizedImage SizedImages}
      */
     public List<SizedImage> getAssets() {
-        return assets;
+        return assets.get();
     }
 
     public int getWebpQf() {
@@ -1,6 +1,7 @@
 package com.rednit.tinder4j.api.entities.photo;
 
 import com.rednit.tinder4j.requests.DataObject;
+import com.rednit.tinder4j.requests.EntityData;
 
 import java.util.Optional;
 
@@ -35,6 +36,18 @@ public class SizedImage {
         }
     }
 
+    /**
+     * Constructs a new SizedImage.
+     *
+     * @param image the {@link EntityData.SizedImage} to construct the SizedImage from
+     */
+    public SizedImage(EntityData.SizedImage image) {
+        width = image.width;
+        height = image.height;
+        url = image.url;
+        quality = image.quality;
+    }
+
     /**
      * Gets the width of the image.
      *
@@ -7,6 +7,8 @@ import com.rednit.tinder4j.api.entities.user.swipeable.UserProfile;
 import com.rednit.tinder4j.api.requests.RestAction;
 import com.rednit.tinder4j.requests.async.RestActionImpl;
 import com.rednit.tinder4j.requests.DataObject;
+import com.rednit.tinder4j.requests.EntityData;
+import com.rednit.tinder4j.requests.Lazy;
 import com.rednit.tinder4j.requests.Route;
 import okhttp3.MediaType;
 import okhttp3.RequestBody;
@@ -15,6 +17,7 @@ import java.util.ArrayList;
 import java.util.Calendar;
 import java.util.List;
 import java.util.Map;
+import java.util.OptionalInt;
 
 /**
  * Abstract top level class for users.
@@ -25,7 +28,7 @@ import java.util.Map;
  */
 public abstract class GenericUser extends Entity {
 
-    private final List<GenericPhoto> photos;
+    private final Lazy<List<GenericPhoto>> photos;
     private final String bio;
     private final String birthdate;
     private final String name;
@@ -59,22 +62,55 @@ public abstract class GenericUser extends Entity {
             );
         }
 
-        photos = new ArrayList<>();
-        user.getArray("photos").forEach(object ->
-                photos.add(new GenericPhoto(new DataObject((Map<String, Object>) object), client))
-        );
+        photos = Lazy.of(() -> {
+            List<GenericPhoto> result = new ArrayList<>();
+            user.getArray("photos").forEach(object -> {
+                DataObject photo = new DataObject((Map<String, Object>) object);
+                result.add(client.getEntityInterner().intern(GenericPhoto.class, photo.getString("id"), () ->
+                        new GenericPhoto(photo, client)
+                ));
+            });
+            return result;
+        });
+    }
+
+    /**
+     * Constructs a new GenericUser.
+     *
+     * @param user   the {@link EntityData.User} to construct the GenericUser from
+     * @param client the corresponding {@link TinderClient} instance
+     */
+    protected GenericUser(EntityData.User user, TinderClient client) {
+        super(user.id, client);
+        bio = user.bio != null ? user.bio : "";
+        birthdate = user.birthDate;
+        name = user.name;
+        gender = Gender.fromId(user.gender);
+
+        badges = new ArrayList<>();
+        if (user.badges != null) {
+            user.badges.forEach(badge -> badges.add(badge.type));
+        }
+
+        List<EntityData.Photo> rawPhotos = user.photos;
+        photos = Lazy.of(() -> {
+            List<GenericPhoto> result = new ArrayList<>(rawPhotos.size());
+            rawPhotos.forEach(photo -> result.add(client.getEntityInterner().intern(GenericPhoto.class, photo.id, () ->
+                    new GenericPhoto(photo, client)
+            )));
+            return result;
+        });
     }
 
     /**
      * Gets the {@link UserProfile}. A {@link UserProfile} contains all available information about a user, while this
-     * class and its subtypes may only contain certain information.
+     * class and its subtypes may only contain certain information. The {@link UserProfile} is taken from the
+     * {@link com.rednit.tinder4j.api.cache.UserProfileCache UserProfileCache} if present.
      *
      * @return the {@link UserProfile} wrapped in a {@link RestAction}
      */
     public RestAction<UserProfile> getUserProfile() {
-        return new RestActionImpl<>(getClient(), Route.User.GET_USER.compile(getId()), (response, request) ->
-                new UserProfile(DataObject.fromJson(response.body()).getObject("results"), getClient())
-        );
+        return getClient().getUserProfile(getId());
     }
 
     /**
@@ -116,12 +152,43 @@ public abstract class GenericUser extends Entity {
      * @throws UnsupportedOperationException if the birthdate is not available
      */
     public int getAge() {
-        if (birthdate.length() < 4) {
-            throw new UnsupportedOperationException("Birthdate is unavailable!");
-        }
-        int birthYear = Integer.parseInt(birthdate.substring(0, 4));
+        return calculateAge(birthdate).orElseThrow(() -> new UnsupportedOperationException("Birthdate is unavailable!"));
+    }
+
+    /**
+     * Calculates the age of a user from a raw birthdate as sent by Tinder.
+     *
+     * @param birthdate the birthdate, may be {@code null}
+     * @return an {@link OptionalInt} holding the age, empty if the birthdate is not available
+     */
+    public static OptionalInt calculateAge(String birthdate) {
+        OptionalInt birthYear = parseBirthYear(birthdate);
+        return birthYear.isPresent() ? OptionalInt.of(calculateAge(birthYear.getAsInt())) : OptionalInt.empty();
+    }
+
+    /**
+     * Calculates the current age of a user born in the given year.
+     *
+     * @param birthYear the year of birth
+     * @return the age
+     */
+    public static int calculateAge(int birthYear) {
         int year = Calendar.getInstance().get(Calendar.YEAR);
-        return year - birthYear - 1; // I don't understand Tinder's age calculation, but -1 seems to fix my solution
+        // I don't understand Tinder's age calculation, but -1 seems to fix my solution
+        return year - birthYear - 1;
+    }
+
+    /**
+     * Gets the year of birth from a raw birthdate as sent by Tinder.
+     *
+     * @param birthdate the birthdate, may be {@code null}
+     * @return an {@link OptionalInt} holding the year of birth, empty if the birthdate is not available
+     */
+    public static OptionalInt parseBirthYear(String birthdate) {
+        if (birthdate == null || birthdate.length() < 4) {
+            return OptionalInt.empty();
+        }
+        return OptionalInt.of(Integer.parseInt(birthdate.substring(0, 4)));
     }
 
     /**
@@ -167,7 +234,7 @@ public abstract class GenericUser extends Entity {
      * @return a {@link List} of {@link GenericPhoto GenericPhotos}
      */
     public List<GenericPhoto> getPhotos() {
-        return photos;
+        return photos.get();
     }
 
     @Override
@@ -31,9 +31,12 @@ public class LikePreview extends Entity {
     public LikePreview(DataObject entity, TinderClient client) {
         super(entity, client);
         photos = new ArrayList<>();
-        entity.getArray("photos").forEach(object ->
-                photos.add(new GenericPhoto(new DataObject((Map<String, Object>) object), client))
-        );
+        entity.getArray("photos").forEach(object -> {
+            DataObject photo = new DataObject((Map<String, Object>) object);
+            photos.add(client.getEntityInterner().intern(GenericPhoto.class, photo.getString("id"), () ->
+                    new GenericPhoto(photo, client)
+            ));
+        });
         if (entity.hasKey("recently_active")) {
             recentlyActive = entity.getBoolean("recently_active");
         } else {
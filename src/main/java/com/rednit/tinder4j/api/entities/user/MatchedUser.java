@@ -3,6 +3,8 @@ package com.rednit.tinder4j.api.entities.user;
 import com.rednit.tinder4j.api.TinderClient;
 import com.rednit.tinder4j.api.entities.photo.MatchPhoto;
 import com.rednit.tinder4j.requests.DataObject;
+import com.rednit.tinder4j.requests.EntityData;
+import com.rednit.tinder4j.requests.Lazy;
 
 import java.util.ArrayList;
 import java.util.List;
@@ -23,7 +25,7 @@ public class MatchedUser extends GenericUser {
     private final boolean hideAge;
     private final boolean hideDistance;
     private final boolean isTravelling;
-    private final List<MatchPhoto> photos;
+    private final Lazy<List<MatchPhoto>> photos;
 
     /**
      * Constructs a new MatchedUser.
@@ -51,10 +53,35 @@ public class MatchedUser extends GenericUser {
         } else {
             isTravelling = false;
         }
-        photos = new ArrayList<>();
-        user.getArray("photos").forEach(object ->
-                photos.add(new MatchPhoto(new DataObject((Map<String, Object>) object), client))
-        );
+        photos = Lazy.of(() -> {
+            List<MatchPhoto> result = new ArrayList<>();
+            user.getArray("photos").forEach(object -> {
+                DataObject photo = new DataObject((Map<String, Object>) object);
+                result.add(new MatchPhoto(photo, client));
+            });
+            return result;
+        });
+    }
+
+    /**
+     * Constructs a new MatchedUser.
+     *
+     * @param user   the {@link EntityData.User} to construct the MatchedUser from
+     * @param client the corresponding {@link TinderClient} instance
+     */
+    public MatchedUser(EntityData.User user, TinderClient client) {
+        super(user, client);
+        birthDateInfo = user.birthDateInfo;
+        lastOnline = user.pingTime;
+        hideAge = user.hideAge;
+        hideDistance = user.hideDistance;
+        isTravelling = user.isTravelling;
+        List<EntityData.Photo> rawPhotos = user.photos;
+        photos = Lazy.of(() -> {
+            List<MatchPhoto> result = new ArrayList<>(rawPhotos.size());
+            rawPhotos.forEach(photo -> result.add(new MatchPhoto(photo, client)));
+            return result;
+        });
     }
 
     /**
@@ -110,7 +137,7 @@ public class MatchedUser extends GenericUser {
      * @return a {@link List} of {@link MatchPhoto MatchPhotos}
      */
     public List<MatchPhoto> getMatchPhotos() {
-        return photos;
+        return photos.get();
     }
 
     @Override
@@ -216,7 +216,7 @@ public abstract class SwipeableUser extends GenericUser {
      */
     public RestAction<Optional<String>> like() {
         return new RestActionImpl<>(getClient(), Route.User.LIKE.compile(getId()), ((response, request) -> {
-            DataObject object = DataObject.fromJson(response.body());
+            DataObject object = DataObject.fromJson(response.stream());
             if (object.get("match") instanceof Boolean) {
                 return Optional.empty();
             }
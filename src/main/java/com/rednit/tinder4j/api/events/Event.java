@@ -0,0 +1,34 @@
+package com.rednit.tinder4j.api.events;
+
+import com.rednit.tinder4j.api.TinderClient;
+
+/**
+ * Base class of all events. Events are fired on the callback threads of the corresponding {@link TinderClient}.
+ *
+ * @author Kaktushose
+ * @version 1.0.0
+ * @see EventListener
+ * @since 1.0.0
+ */
+public abstract class Event {
+
+    private final TinderClient client;
+
+    /**
+     * Constructs a new Event.
+     *
+     * @param client the corresponding {@link TinderClient} instance
+     */
+    protected Event(TinderClient client) {
+        this.client = client;
+    }
+
+    /**
+     * Gets the corresponding {@link TinderClient} instance.
+     *
+     * @return the corresponding {@link TinderClient} instance
+     */
+    public TinderClient getTinderClient() {
+        return client;
+    }
+}
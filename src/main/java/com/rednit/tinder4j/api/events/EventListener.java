@@ -0,0 +1,22 @@
+package com.rednit.tinder4j.api.events;
+
+/**
+ * Listener receiving all {@link Event Events}. Register it with
+ * {@link com.rednit.tinder4j.api.TinderClient#addEventListener(EventListener...)
+ * TinderClient#addEventListener(EventListener...)}.
+ *
+ * @author Kaktushose
+ * @version 1.0.0
+ * @see ListenerAdapter
+ * @since 1.0.0
+ */
+@FunctionalInterface
+public interface EventListener {
+
+    /**
+     * Called for every {@link Event}.
+     *
+     * @param event the {@link Event}
+     */
+    void onEvent(Event event);
+}
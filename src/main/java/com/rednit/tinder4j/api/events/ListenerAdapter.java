@@ -0,0 +1,47 @@
+package com.rednit.tinder4j.api.events;
+
+/**
+ * {@link EventListener} with a method for every type of {@link Event}. Override the methods of the events you want
+ * to listen to.
+ *
+ * @author Kaktushose
+ * @version 1.0.0
+ * @since 1.0.0
+ */
+public abstract class ListenerAdapter implements EventListener {
+
+    /**
+     * Called when a new match was made.
+     *
+     * @param event the {@link NewMatchEvent}
+     */
+    public void onNewMatch(NewMatchEvent event) {
+    }
+
+    /**
+     * Called when a new message was sent.
+     *
+     * @param event the {@link NewMessageEvent}
+     */
+    public void onNewMessage(NewMessageEvent event) {
+    }
+
+    /**
+     * Called when a match was removed.
+     *
+     * @param event the {@link MatchUnmatchedEvent}
+     */
+    public void onMatchUnmatched(MatchUnmatchedEvent event) {
+    }
+
+    @Override
+    public final void onEvent(Event event) {
+        if (event instanceof NewMatchEvent) {
+            onNewMatch((NewMatchEvent) event);
+        } else if (event instanceof NewMessageEvent) {
+            onNewMessage((NewMessageEvent) event);
+        } else if (event instanceof MatchUnmatchedEvent) {
+            onMatchUnmatched((MatchUnmatchedEvent) event);
+        }
+    }
+}
@@ -0,0 +1,57 @@
+package com.rednit.tinder4j.api.events;
+
+import com.rednit.tinder4j.api.TinderClient;
+import com.rednit.tinder4j.api.entities.Match;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.Optional;
+
+/**
+ * Fired when a {@link Match} was removed, either by the matched user or by the logged in user.
+ *
+ * @author Kaktushose
+ * @version 1.0.0
+ * @since 1.0.0
+ */
+public class MatchUnmatchedEvent extends Event {
+
+    private final String matchId;
+    private final Match match;
+
+    /**
+     * Constructs a new MatchUnmatchedEvent.
+     *
+     * @param client  the corresponding {@link TinderClient} instance
+     * @param matchId the id of the removed {@link Match}
+     * @param match   the removed {@link Match}, if it was cached
+     */
+    public MatchUnmatchedEvent(TinderClient client, String matchId, @Nullable Match match) {
+        super(client);
+        this.matchId = matchId;
+        this.match = match;
+    }
+
+    /**
+     * Gets the id of the removed {@link Match}.
+     *
+     * @return the id of the removed {@link Match}
+     */
+    public String getMatchId() {
+        return matchId;
+    }
+
+    /**
+     * Gets the removed {@link Match}. This is only present if the {@link Match} was cached in the
+     * {@link com.rednit.tinder4j.api.cache.MatchCacheView MatchCacheView}.
+     *
+     * @return an {@link Optional} holding the removed {@link Match}
+     */
+    public Optional<Match> getMatch() {
+        return Optional.ofNullable(match);
+    }
+
+    @Override
+    public String toString() {
+        return String.format("MatchUnmatchedEvent{match: %s}", matchId);
+    }
+}
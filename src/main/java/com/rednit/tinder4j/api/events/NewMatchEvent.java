@@ -0,0 +1,41 @@
+package com.rednit.tinder4j.api.events;
+
+import com.rednit.tinder4j.api.TinderClient;
+import com.rednit.tinder4j.api.entities.Match;
+
+/**
+ * Fired when a new {@link Match} was made.
+ *
+ * @author Kaktushose
+ * @version 1.0.0
+ * @since 1.0.0
+ */
+public class NewMatchEvent extends Event {
+
+    private final Match match;
+
+    /**
+     * Constructs a new NewMatchEvent.
+     *
+     * @param client the corresponding {@link TinderClient} instance
+     * @param match  the new {@link Match}
+     */
+    public NewMatchEvent(TinderClient client, Match match) {
+        super(client);
+        this.match = match;
+    }
+
+    /**
+     * Gets the new {@link Match}.
+     *
+     * @return the new {@link Match}
+     */
+    public Match getMatch() {
+        return match;
+    }
+
+    @Override
+    public String toString() {
+        return String.format("NewMatchEvent{match: %s}", match.getId());
+    }
+}
@@ -0,0 +1,50 @@
+package com.rednit.tinder4j.api.events;
+
+import com.rednit.tinder4j.api.TinderClient;
+import com.rednit.tinder4j.api.entities.message.Message;
+
+/**
+ * Fired when a new {@link Message} was sent. This includes messages sent by the logged in user.
+ *
+ * @author Kaktushose
+ * @version 1.0.0
+ * @since 1.0.0
+ */
+public class NewMessageEvent extends Event {
+
+    private final Message message;
+
+    /**
+     * Constructs a new NewMessageEvent.
+     *
+     * @param client  the corresponding {@link TinderClient} instance
+     * @param message the new {@link Message}
+     */
+    public NewMessageEvent(TinderClient client, Message message) {
+        super(client);
+        this.message = message;
+    }
+
+    /**
+     * Gets the new {@link Message}.
+     *
+     * @return the new {@link Message}
+     */
+    public Message getMessage() {
+        return message;
+    }
+
+    /**
+     * Gets the id of the match the {@link Message} was sent in.
+     *
+     * @return the match id
+     */
+    public String getMatchId() {
+        return message.getMatchId();
+    }
+
+    @Override
+    public String toString() {
+        return String.format("NewMessageEvent{match: %s / message: %s}", message.getMatchId(), message.getId());
+    }
+}
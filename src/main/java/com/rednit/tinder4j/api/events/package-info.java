@@ -0,0 +1,6 @@
+/**
+ * Events fired by the update poller of a {@link com.rednit.tinder4j.api.TinderClient TinderClient}.
+ *
+ * @see com.rednit.tinder4j.api.events.ListenerAdapter
+ */
+package com.rednit.tinder4j.api.events;
@@ -0,0 +1,192 @@
+package com.rednit.tinder4j.api.requests;
+
+import okhttp3.ConnectionPool;
+import okhttp3.Dispatcher;
+import okhttp3.OkHttpClient;
+import okhttp3.Protocol;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.SynchronousQueue;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * The connections and threads requests are sent with. A transport holds one {@link OkHttpClient}, thus one connection
+ * pool and one dispatcher, and one scheduler for delayed tasks, such as rate limited requests. It can be shared by any
+ * number of {@link com.rednit.tinder4j.api.TinderClient TinderClients}, each client still sends its own auth token.
+ * Thus, the amount of sockets and request threads stays the same no matter how many accounts are used. Callbacks run on
+ * the callback pool of each client, see
+ * {@link com.rednit.tinder4j.api.TinderClientBuilder#setCallbackPool(java.util.concurrent.ExecutorService)
+ * TinderClientBuilder#setCallbackPool(ExecutorService)} to share it.
+ *
+ * <p>All clients use {@link #getDefault()} unless another transport is passed to them. Because Tinder serves all
+ * endpoints from a single host, the default transport allows more concurrent requests per host than OkHttp does and
+ * multiplexes them over HTTP/2 connections where possible.
+ *
+ * @author Kaktushose
+ * @version 1.0.0
+ * @since 1.0.0
+ */
+public class HttpTransport {
+
+    private static final Logger log = LoggerFactory.getLogger(HttpTransport.class);
+    public static final int DEFAULT_MAX_REQUESTS = 256;
+    public static final int DEFAULT_MAX_REQUESTS_PER_HOST = 64;
+    public static final int DEFAULT_MAX_IDLE_CONNECTIONS = 16;
+    private final OkHttpClient httpClient;
+    private final ScheduledExecutorService scheduler;
+    private final List<Runnable> shutdownListeners = new CopyOnWriteArrayList<>();
+    private final AtomicBoolean shutdown = new AtomicBoolean();
+
+    /**
+     * Constructs a new HttpTransport with the default limits.
+     */
+    public HttpTransport() {
+        this(DEFAULT_MAX_REQUESTS_PER_HOST, DEFAULT_MAX_IDLE_CONNECTIONS);
+    }
+
+    /**
+     * Constructs a new HttpTransport.
+     *
+     * @param maxRequestsPerHost the maximum amount of concurrent requests to the Tinder API
+     * @param maxIdleConnections the maximum amount of idle connections kept alive
+     * @throws IllegalArgumentException if one of the limits is less than one
+     */
+    public HttpTransport(int maxRequestsPerHost, int maxIdleConnections) {
+        if (maxRequestsPerHost < 1 || maxIdleConnections < 1) {
+            throw new IllegalArgumentException("Limits must be at least one!");
+        }
+        Dispatcher dispatcher = new Dispatcher(new ThreadPoolExecutor(
+                0, Integer.MAX_VALUE, 60, TimeUnit.SECONDS, new SynchronousQueue<>(), daemonFactory("Dispatcher")
+        ));
+        dispatcher.setMaxRequests(Math.max(DEFAULT_MAX_REQUESTS, maxRequestsPerHost));
+        dispatcher.setMaxRequestsPerHost(maxRequestsPerHost);
+        httpClient = new OkHttpClient.Builder()
+                .dispatcher(dispatcher)
+                .connectionPool(new ConnectionPool(maxIdleConnections, 5, TimeUnit.MINUTES))
+                .protocols(List.of(Protocol.HTTP_2, Protocol.HTTP_1_1))
+                .build();
+        scheduler = Executors.newSingleThreadScheduledExecutor(daemonFactory("Scheduler"));
+    }
+
+    /**
+     * Constructs a new HttpTransport on top of an existing {@link OkHttpClient}. Use this to configure proxies,
+     * timeouts or interceptors.
+     *
+     * @param httpClient the {@link OkHttpClient} to send requests with
+     */
+    public HttpTransport(OkHttpClient httpClient) {
+        this.httpClient = httpClient;
+        scheduler = Executors.newSingleThreadScheduledExecutor(daemonFactory("Scheduler"));
+    }
+
+    /**
+     * Gets the transport that is shared by all {@link com.rednit.tinder4j.api.TinderClient TinderClients} which
+     * weren't given a transport explicitly. The default transport is created on first use and is never shut down.
+     *
+     * @return the default HttpTransport
+     */
+    public static HttpTransport getDefault() {
+        return DefaultHolder.INSTANCE;
+    }
+
+    private static ThreadFactory daemonFactory(String name) {
+        AtomicInteger count = new AtomicInteger();
+        return runnable -> {
+            Thread thread = new Thread(runnable, "Tinder4J " + name + " " + count.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        };
+    }
+
+    /**
+     * Gets the {@link OkHttpClient} requests are sent with.
+     *
+     * @return the {@link OkHttpClient}
+     */
+    public OkHttpClient getHttpClient() {
+        return httpClient;
+    }
+
+    /**
+     * Gets the {@link ScheduledExecutorService} used for delayed tasks. Tasks must not block.
+     *
+     * @return the {@link ScheduledExecutorService}
+     */
+    public ScheduledExecutorService getScheduler() {
+        return scheduler;
+    }
+
+    /**
+     * Adds a listener that gets called once this transport is shut down, before any running call is cancelled.
+     * Listeners must not block.
+     *
+     * @param listener the {@link Runnable} to call on shutdown
+     */
+    public void addShutdownListener(Runnable listener) {
+        shutdownListeners.add(listener);
+    }
+
+    /**
+     * Removes a listener that was added with {@link #addShutdownListener(Runnable)}.
+     *
+     * @param listener the {@link Runnable} to remove
+     */
+    public void removeShutdownListener(Runnable listener) {
+        shutdownListeners.remove(listener);
+    }
+
+    /**
+     * Whether this transport has been shut down.
+     *
+     * @return {@code true} if this transport has been shut down
+     */
+    public boolean isShutdown() {
+        return shutdown.get();
+    }
+
+    /**
+     * Shuts this transport down. Requests that are waiting for the scheduler or the ratelimiter fail with a
+     * {@link java.util.concurrent.CancellationException CancellationException}, running calls are cancelled and idle
+     * connections are closed. The clients using this transport can't send any requests afterwards.
+     *
+     * @throws IllegalStateException if this is the default transport
+     */
+    public void shutdown() {
+        if (this == DefaultHolder.INSTANCE) {
+            throw new IllegalStateException("The default transport cannot be shut down!");
+        }
+        if (!shutdown.compareAndSet(false, true)) {
+            return;
+        }
+        // the dropped tasks are futures, cancelling them releases anyone waiting for them
+        scheduler.shutdownNow().forEach(task -> {
+            if (task instanceof Future) {
+                ((Future<?>) task).cancel(false);
+            }
+        });
+        shutdownListeners.forEach(listener -> {
+            try {
+                listener.run();
+            } catch (Throwable t) {
+                log.error("A shutdown listener threw an exception!", t);
+            }
+        });
+        httpClient.dispatcher().cancelAll();
+        httpClient.dispatcher().executorService().shutdown();
+        httpClient.connectionPool().evictAll();
+    }
+
+    private static class DefaultHolder {
+        private static final HttpTransport INSTANCE = new HttpTransport();
+    }
+}
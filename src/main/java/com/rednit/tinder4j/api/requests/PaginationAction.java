@@ -0,0 +1,88 @@
+package com.rednit.tinder4j.api.requests;
+
+import com.rednit.tinder4j.exceptions.PaginationException;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.List;
+import java.util.concurrent.Flow;
+import java.util.stream.Stream;
+
+/**
+ * A {@link RestAction} that loads all pages of a paginated endpoint. Every time this RestAction gets finished it starts
+ * a new, independent pagination from the configured cursor. The request for the next page is sent as soon as a page
+ * arrives, before its items get constructed.
+ *
+ * <p>If a page fails to load, the RestAction fails with a {@link PaginationException} holding the cursor of that
+ * page. The pagination can be resumed with {@link #setCursor(String)}.
+ *
+ * <p>Finishing this RestAction holds all items in memory until the last page arrived. Use {@link #asPublisher()} or
+ * {@link #stream()} to process the items as the pages arrive instead. Both only request the next page once the
+ * items of the previous page were consumed.
+ *
+ * @param <T> the type of the paginated items
+ * @author Kaktushose
+ * @version 1.0.0
+ * @since 1.0.0
+ */
+public interface PaginationAction<T> extends RestAction<List<T>> {
+
+    /**
+     * The default amount of items requested per page.
+     */
+    int DEFAULT_PAGE_SIZE = 60;
+
+    /**
+     * Gets the amount of items requested per page.
+     *
+     * @return the amount of items requested per page
+     */
+    int getPageSize();
+
+    /**
+     * Sets the amount of items requested per page. Default value is {@value DEFAULT_PAGE_SIZE}.
+     *
+     * @param pageSize the amount of items requested per page
+     * @return this instance for fluent interface
+     * @throws IllegalArgumentException if the page size is less than one
+     */
+    PaginationAction<T> setPageSize(int pageSize);
+
+    /**
+     * Gets the cursor the pagination starts from.
+     *
+     * @return the cursor the pagination starts from, {@code null} if it starts from the first page
+     */
+    @Nullable
+    String getCursor();
+
+    /**
+     * Sets the cursor the pagination starts from, e.g. the one of a {@link PaginationException}.
+     *
+     * @param cursor the cursor to start from, {@code null} to start from the first page
+     * @return this instance for fluent interface
+     */
+    PaginationAction<T> setCursor(@Nullable String cursor);
+
+    /**
+     * Gets a {@link Flow.Publisher} emitting the items as the pages arrive. Every subscription starts a new pagination
+     * from the configured cursor and only requests the next page if there is outstanding demand once the items of
+     * the previous page were emitted. A failed page terminates the subscription with a {@link PaginationException}.
+     *
+     * <p><b>This method is asynchronous</b>
+     *
+     * @return a {@link Flow.Publisher} emitting the paginated items
+     */
+    Flow.Publisher<T> asPublisher();
+
+    /**
+     * Gets a lazy, sequential {@link Stream} over the paginated items. A page is requested when the stream needs
+     * the next item and the items of the previous page are consumed, short-circuiting operations such as
+     * {@link Stream#limit(long)} stop the pagination early.
+     *
+     * <p><b>Consuming the stream is blocking.</b>
+     *
+     * @return a {@link Stream} of the paginated items
+     * @throws PaginationException while consuming the stream if a page fails to load
+     */
+    Stream<T> stream();
+}
@@ -2,6 +2,10 @@ package com.rednit.tinder4j.api.requests;
 
 import com.rednit.tinder4j.api.TinderClient;
 import com.rednit.tinder4j.requests.Request;
+import com.rednit.tinder4j.requests.Response;
+
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
 
 /**
  * A Ratelimiter decides whether a {@link Request} should be delayed and if yes for how long.
@@ -36,4 +40,47 @@ public interface Ratelimiter {
      * @return the delay in ms
      */
     long getDelay(Request<?> request);
+
+    /**
+     * Hands a {@link Request} over to the Ratelimiter. The Ratelimiter either runs the execution immediately or
+     * schedules it on the given {@link ScheduledExecutorService}, but must never block the calling thread.
+     * <p>
+     * The default implementation delays the execution by {@link #getDelay(Request)} milliseconds if
+     * {@link #shouldDelay(Request)} returns {@code true}.
+     * </p>
+     *
+     * @param request   the corresponding {@link Request}
+     * @param execution the {@link Runnable} sending the {@link Request}
+     * @param scheduler the {@link ScheduledExecutorService} to delay the execution with
+     */
+    default void enqueue(Request<?> request, Runnable execution, ScheduledExecutorService scheduler) {
+        if (shouldDelay(request)) {
+            scheduler.schedule(execution, getDelay(request), TimeUnit.MILLISECONDS);
+        } else {
+            execution.run();
+        }
+    }
+
+    /**
+     * Called for every {@link Response} including rate limited ones. Implementations can use this to sync their
+     * state with the rate limit headers sent by Tinder. The default implementation does nothing.
+     *
+     * @param request  the corresponding {@link Request}
+     * @param response the {@link Response} of the {@link Request}
+     */
+    default void update(Request<?> request, Response response) {
+    }
+
+    /**
+     * Gets the delay a rate limited request should be retried after in ms. The default implementation honors the
+     * Retry-After and x-ratelimit-reset headers and falls back to an exponential backoff starting at one second.
+     *
+     * @param request  the corresponding {@link Request}
+     * @param response the rate limited {@link Response}
+     * @return the delay in ms
+     * @see Response#getRetryAfter()
+     */
+    default long getRetryDelay(Request<?> request, Response response) {
+        return response.getRetryAfter().orElse(1000L << Math.min(request.getRetryCount(), 6));
+    }
 }
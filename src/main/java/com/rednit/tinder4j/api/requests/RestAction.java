@@ -1,23 +1,34 @@
 package com.rednit.tinder4j.api.requests;
 
+import com.rednit.tinder4j.requests.async.FutureRestAction;
 import org.jetbrains.annotations.Nullable;
 
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.function.BiFunction;
 import java.util.function.Consumer;
+import java.util.function.Function;
 
 /**
  * A class representing a bridge between the Tinder API and the user. Allows the user to decide how this library should
- * handle the request. RestActions can be finished in two ways:
+ * handle the request. RestActions can be finished in three ways:
  * <ul>
  *     <li>
  *         {@link #queue()}, {@link #queue(Consumer)} or {@link #queue(Consumer, Consumer)}
  *         These methods are asynchronous. The response can be accessed in a callback function.
  *     </li>
  *     <li>
+ *         {@link #submit()} This method is asynchronous. The response can be accessed through a
+ *         {@link CompletableFuture}.
+ *     </li>
+ *     <li>
  *         {@link #complete()} This will block the thread and return the request result, or throw an exception.
  *     </li>
  * </ul>
  * <p>
- * It is recommended to use {@link #queue()} whenever possible.
+ * It is recommended to use {@link #queue()} whenever possible. RestActions can be chained with operators, such as
+ * {@link #map(Function)} or {@link #flatMap(Function)}, without blocking any thread. Operators are lazy, thus no
+ * request is sent until the resulting RestAction gets finished.
  * </p>
  * <p>
  * The concept and great parts of the implementation are copied from
@@ -73,10 +84,97 @@ public interface RestAction<T> {
     void queue(@Nullable Consumer<? super T> success, @Nullable Consumer<? super Throwable> failure);
 
     /**
-     * Blocks the current Thread and awaits the completion of a request.
+     * Submits a Request for execution and provides a {@link CompletableFuture} representing its completion.
+     *
+     * <p><b>This method is asynchronous</b>
+     *
+     * @return a {@link CompletableFuture} representing the completion of this RestAction
+     */
+    default CompletableFuture<T> submit() {
+        CompletableFuture<T> future = new CompletableFuture<>();
+        queue(future::complete, future::completeExceptionally);
+        return future;
+    }
+
+    /**
+     * Blocks the current Thread and awaits the completion of a request. This may also be used within a
+     * {@link #queue(Consumer, Consumer) queue(...)} callback, the callback pool compensates for the blocked thread.
      *
      * @return the response value
-     * @throws IllegalStateException If used within a {@link #queue(Consumer, Consumer) queue(...)} callback
      */
     T complete();
+
+    /**
+     * Intermediate operator that returns a RestAction holding the result of this RestAction transformed by the
+     * given function.
+     *
+     * @param map the function to transform the result with
+     * @param <O> the type of the transformed result
+     * @return a RestAction holding the transformed result
+     */
+    default <O> RestAction<O> map(Function<? super T, ? extends O> map) {
+        return new FutureRestAction<>(this, () -> submit().thenApply(map));
+    }
+
+    /**
+     * Intermediate operator that returns a RestAction which executes the RestAction provided by the given function
+     * after this RestAction completed. This can be used to chain requests that depend on each other.
+     *
+     * @param flatMap the function providing the next RestAction
+     * @param <O>     the result type of the next RestAction
+     * @return a RestAction holding the result of the next RestAction
+     */
+    default <O> RestAction<O> flatMap(Function<? super T, ? extends RestAction<O>> flatMap) {
+        return new FutureRestAction<>(this, () -> submit().thenCompose(value -> flatMap.apply(value).submit()));
+    }
+
+    /**
+     * Intermediate operator that returns a RestAction which executes this and the other RestAction concurrently and
+     * combines both results.
+     *
+     * @param other       the other RestAction
+     * @param accumulator the function to combine both results with
+     * @param <U>         the result type of the other RestAction
+     * @param <O>         the type of the combined result
+     * @return a RestAction holding the combined result
+     */
+    default <U, O> RestAction<O> zip(RestAction<U> other, BiFunction<? super T, ? super U, ? extends O> accumulator) {
+        return new FutureRestAction<>(this, () -> submit().thenCombine(other.submit(), accumulator));
+    }
+
+    /**
+     * Intermediate operator that returns a RestAction which maps a failure of this RestAction to a fallback value.
+     *
+     * @param map the function mapping the failure to a fallback value
+     * @return a RestAction holding either the result or the fallback value
+     */
+    default RestAction<T> onErrorMap(Function<? super Throwable, ? extends T> map) {
+        return new FutureRestAction<>(this, () ->
+                submit().exceptionally(throwable -> map.apply(FutureRestAction.unwrap(throwable)))
+        );
+    }
+
+    /**
+     * Intermediate operator that returns a RestAction which fails with a
+     * {@link java.util.concurrent.TimeoutException TimeoutException} if this RestAction doesn't complete in time.
+     *
+     * @param timeout the time to wait
+     * @param unit    the {@link TimeUnit} of the timeout
+     * @return a RestAction with a timeout
+     */
+    default RestAction<T> timeout(long timeout, TimeUnit unit) {
+        return FutureRestAction.timeout(this, timeout, unit);
+    }
+
+    /**
+     * Intermediate operator that returns a RestAction which delays the result of this RestAction. The request itself
+     * is executed immediately.
+     *
+     * @param delay the time to delay the result with
+     * @param unit  the {@link TimeUnit} of the delay
+     * @return a RestAction with a delayed result
+     */
+    default RestAction<T> delay(long delay, TimeUnit unit) {
+        return FutureRestAction.delay(this, delay, unit);
+    }
 }
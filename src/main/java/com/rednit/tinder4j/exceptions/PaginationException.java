@@ -0,0 +1,54 @@
+package com.rednit.tinder4j.exceptions;
+
+import org.jetbrains.annotations.Nullable;
+
+import java.util.List;
+
+/**
+ * RuntimeException that is thrown when loading a page of a
+ * {@link com.rednit.tinder4j.api.requests.PaginationAction PaginationAction} fails. Holds the cursor of the failed
+ * page, so the pagination can be resumed from there, and all items that were loaded before the failure.
+ *
+ * @author Kaktushose
+ * @version 1.0.0
+ * @since 1.0.0
+ */
+public class PaginationException extends RuntimeException {
+
+    private final String cursor;
+    private final List<?> loaded;
+
+    /**
+     * Constructs a new PaginationException.
+     *
+     * @param cursor the cursor of the page that failed to load, {@code null} if it was the first page
+     * @param loaded the items that were loaded before the failure
+     * @param cause  the cause
+     */
+    public PaginationException(@Nullable String cursor, List<?> loaded, Throwable cause) {
+        super("Failed to load page " + (cursor == null ? "<first>" : cursor), cause);
+        this.cursor = cursor;
+        this.loaded = loaded;
+    }
+
+    /**
+     * Gets the cursor of the page that failed to load. Pass it to
+     * {@link com.rednit.tinder4j.api.requests.PaginationAction#setCursor(String) PaginationAction#setCursor(String)}
+     * to resume the pagination.
+     *
+     * @return the cursor of the failed page, {@code null} if it was the first page
+     */
+    @Nullable
+    public String getCursor() {
+        return cursor;
+    }
+
+    /**
+     * Gets the items that were loaded before the failure.
+     *
+     * @return the items that were loaded before the failure
+     */
+    public List<?> getLoaded() {
+        return loaded;
+    }
+}
@@ -0,0 +1,180 @@
+package com.rednit.tinder4j.requests;
+
+import com.rednit.tinder4j.api.requests.Ratelimiter;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.OptionalInt;
+import java.util.OptionalLong;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * {@link Ratelimiter} that keeps one bucket per {@link Route} template. Each bucket allows a fixed amount of requests
+ * per time window and queues all further requests until the bucket refills, thus a throttled route never delays
+ * requests to other routes.
+ */
+public class BucketRatelimiter implements Ratelimiter {
+
+    private static final Logger log = LoggerFactory.getLogger(BucketRatelimiter.class);
+    private final Map<String, Bucket> buckets;
+    private final int limit;
+    private final long window;
+
+    public BucketRatelimiter() {
+        this(2, 5000);
+    }
+
+    public BucketRatelimiter(int limit, long window) {
+        if (limit < 1 || window < 1) {
+            throw new IllegalArgumentException("Limit and window must be positive!");
+        }
+        this.limit = limit;
+        this.window = window;
+        buckets = new ConcurrentHashMap<>();
+    }
+
+    @Override
+    public boolean shouldDelay(Request<?> request) {
+        return getDelay(request) > 0;
+    }
+
+    @Override
+    public long getDelay(Request<?> request) {
+        return getBucket(request).getDelay(System.currentTimeMillis());
+    }
+
+    @Override
+    public void enqueue(Request<?> request, Runnable execution, ScheduledExecutorService scheduler) {
+        getBucket(request).enqueue(execution, scheduler);
+    }
+
+    @Override
+    public void update(Request<?> request, Response response) {
+        if (response.isRateLimit()) {
+            getBucket(request).block(0, getRetryDelay(request, response));
+            return;
+        }
+        OptionalInt remaining = response.getRateLimitRemaining();
+        OptionalLong reset = response.getRateLimitReset();
+        if (remaining.isPresent() && reset.isPresent()) {
+            getBucket(request).block(remaining.getAsInt(), reset.getAsLong());
+        }
+    }
+
+    private Bucket getBucket(Request<?> request) {
+        String bucket = request.getCompiledRoute().getBaseRoute().getBucket();
+        // get first, computeIfAbsent locks the bin even if the bucket exists already
+        Bucket existing = buckets.get(bucket);
+        return existing != null ? existing : buckets.computeIfAbsent(bucket, key -> new Bucket(key, limit, window));
+    }
+
+    private static class Bucket {
+
+        private final ReentrantLock lock;
+        private final Queue<Runnable> queue;
+        private final String name;
+        private final int limit;
+        private final long window;
+        private int remaining;
+        private long resetAt;
+        private boolean scheduled;
+
+        private Bucket(String name, int limit, long window) {
+            lock = new ReentrantLock();
+            queue = new ArrayDeque<>();
+            this.name = name;
+            this.limit = limit;
+            this.window = window;
+            remaining = limit;
+        }
+
+        private void enqueue(Runnable execution, ScheduledExecutorService scheduler) {
+            lock.lock();
+            try {
+                long now = System.currentTimeMillis();
+                refill(now);
+                if (queue.isEmpty() && remaining > 0) {
+                    remaining--;
+                } else {
+                    queue.add(execution);
+                    log.debug("Bucket {} exhausted. Queued request, {} waiting", name, queue.size());
+                    schedule(now, scheduler);
+                    return;
+                }
+            } finally {
+                lock.unlock();
+            }
+            execution.run();
+        }
+
+        private void drain(ScheduledExecutorService scheduler) {
+            List<Runnable> executions = new ArrayList<>();
+            lock.lock();
+            try {
+                long now = System.currentTimeMillis();
+                scheduled = false;
+                refill(now);
+                while (remaining > 0 && !queue.isEmpty()) {
+                    executions.add(queue.poll());
+                    remaining--;
+                }
+                if (!queue.isEmpty()) {
+                    schedule(now, scheduler);
+                }
+            } finally {
+                lock.unlock();
+            }
+            executions.forEach(Runnable::run);
+        }
+
+        private void schedule(long now, ScheduledExecutorService scheduler) {
+            if (scheduled) {
+                return;
+            }
+            scheduled = true;
+            scheduler.schedule(() -> drain(scheduler), Math.max(0, resetAt - now), TimeUnit.MILLISECONDS);
+        }
+
+        private void refill(long now) {
+            if (now >= resetAt) {
+                remaining = limit;
+                resetAt = now + window;
+            }
+        }
+
+        private void block(int remaining, long resetIn) {
+            lock.lock();
+            try {
+                long now = System.currentTimeMillis();
+                refill(now);
+                this.remaining = Math.min(this.remaining, remaining);
+                if (this.remaining == 0) {
+                    resetAt = Math.max(resetAt, now + resetIn);
+                    log.debug("Bucket {} blocked for {} ms", name, resetAt - now);
+                }
+            } finally {
+                lock.unlock();
+            }
+        }
+
+        private long getDelay(long now) {
+            lock.lock();
+            try {
+                if (now >= resetAt || (queue.isEmpty() && remaining > 0)) {
+                    return 0;
+                }
+                return resetAt - now;
+            } finally {
+                lock.unlock();
+            }
+        }
+    }
+}
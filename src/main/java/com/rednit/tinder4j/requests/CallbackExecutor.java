@@ -0,0 +1,167 @@
+package com.rednit.tinder4j.requests;
+
+import java.util.List;
+import java.util.concurrent.AbstractExecutorService;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinWorkerThread;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.locks.Condition;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * Executes the callbacks of one {@link com.rednit.tinder4j.api.TinderClient TinderClient} on a delegate
+ * {@link ExecutorService} and counts the callbacks that haven't finished yet. This allows to wait for the callbacks of
+ * one client, even if several clients share the delegate. Shutting this executor down only shuts the delegate down if
+ * it is owned by this executor.
+ */
+public class CallbackExecutor extends AbstractExecutorService {
+
+    private final ExecutorService delegate;
+    private final boolean owned;
+    private final AtomicInteger pending;
+    private final ReentrantLock idleLock;
+    private final Condition idle;
+    private volatile boolean shutdown;
+
+    /**
+     * Constructs a new CallbackExecutor.
+     *
+     * @param delegate the {@link ExecutorService} to execute the callbacks on
+     * @param owned    whether the delegate gets shut down together with this executor
+     */
+    public CallbackExecutor(ExecutorService delegate, boolean owned) {
+        this.delegate = delegate;
+        this.owned = owned;
+        pending = new AtomicInteger();
+        idleLock = new ReentrantLock();
+        idle = idleLock.newCondition();
+    }
+
+    /**
+     * Constructs a new CallbackExecutor on its own {@link ForkJoinPool} of daemon threads.
+     *
+     * @param parallelism the amount of callback threads
+     * @return a new CallbackExecutor owning its pool
+     */
+    public static CallbackExecutor create(int parallelism) {
+        if (parallelism < 1) {
+            throw new IllegalArgumentException("Parallelism must be at least one!");
+        }
+        AtomicInteger count = new AtomicInteger();
+        ForkJoinPool pool = new ForkJoinPool(parallelism, forkJoinPool -> {
+            ForkJoinWorkerThread thread = ForkJoinPool.defaultForkJoinWorkerThreadFactory.newThread(forkJoinPool);
+            thread.setName("Tinder4J Callback " + count.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        }, null, true);
+        return new CallbackExecutor(pool, true);
+    }
+
+    @Override
+    public void execute(Runnable command) {
+        if (shutdown) {
+            throw new RejectedExecutionException("The callback executor has been shut down!");
+        }
+        pending.incrementAndGet();
+        try {
+            delegate.execute(() -> {
+                try {
+                    command.run();
+                } finally {
+                    finish();
+                }
+            });
+        } catch (RejectedExecutionException e) {
+            finish();
+            throw e;
+        }
+    }
+
+    private void finish() {
+        if (pending.decrementAndGet() == 0) {
+            idleLock.lock();
+            try {
+                idle.signalAll();
+            } finally {
+                idleLock.unlock();
+            }
+        }
+    }
+
+    /**
+     * Gets the {@link ExecutorService} the callbacks are executed on.
+     *
+     * @return the delegate {@link ExecutorService}
+     */
+    public ExecutorService getDelegate() {
+        return delegate;
+    }
+
+    /**
+     * Gets the amount of callbacks that were submitted but haven't finished yet.
+     *
+     * @return the amount of pending callbacks
+     */
+    public int getPendingCount() {
+        return pending.get();
+    }
+
+    /**
+     * Blocks the current thread until no callback of this executor is pending anymore.
+     *
+     * @param timeout the maximum time to wait
+     * @param unit    the {@link TimeUnit} of the timeout
+     * @return {@code true} if all callbacks finished before the timeout elapsed
+     * @throws InterruptedException if the current thread was interrupted while waiting
+     */
+    public boolean awaitIdle(long timeout, TimeUnit unit) throws InterruptedException {
+        long nanos = unit.toNanos(timeout);
+        idleLock.lock();
+        try {
+            while (pending.get() > 0) {
+                if (nanos <= 0) {
+                    return false;
+                }
+                nanos = idle.awaitNanos(nanos);
+            }
+            return true;
+        } finally {
+            idleLock.unlock();
+        }
+    }
+
+    @Override
+    public void shutdown() {
+        shutdown = true;
+        if (owned) {
+            delegate.shutdown();
+        }
+    }
+
+    @Override
+    public List<Runnable> shutdownNow() {
+        shutdown = true;
+        if (owned) {
+            return delegate.shutdownNow();
+        }
+        return List.of();
+    }
+
+    @Override
+    public boolean isShutdown() {
+        return shutdown;
+    }
+
+    @Override
+    public boolean isTerminated() {
+        return shutdown && pending.get() == 0;
+    }
+
+    @Override
+    public boolean awaitTermination(long timeout, TimeUnit unit) throws InterruptedException {
+        return awaitIdle(timeout, unit);
+    }
+}
@@ -2,31 +2,43 @@ package com.rednit.tinder4j.requests;
 
 import com.rednit.tinder4j.api.requests.Ratelimiter;
 
-import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
 
+/**
+ * Global {@link Ratelimiter} backed by a lock-free {@link TokenBucket}. Requests exceeding the bucket reserve the next
+ * free token and are scheduled for the time it becomes available, thus concurrent callers never burst through and
+ * the fast path doesn't acquire any lock.
+ */
 public class DefaultRatelimiter implements Ratelimiter {
 
-    private int exceedCount;
-    private long lastRequest;
+    private final TokenBucket bucket;
+
+    public DefaultRatelimiter() {
+        this(2, 2500);
+    }
+
+    public DefaultRatelimiter(int burst, long interval) {
+        bucket = new TokenBucket(burst, interval, TimeUnit.MILLISECONDS);
+    }
 
     @Override
     public boolean shouldDelay(Request<?> request) {
-        long current = System.currentTimeMillis();
-        if (current - lastRequest > 5000) {
-            lastRequest = current;
-            return false;
-        }
-        lastRequest = current;
-        exceedCount++;
-        if (exceedCount > 1) {
-            exceedCount = 0;
-            return true;
-        }
-        return false;
+        return bucket.getDelay() > 0;
     }
 
     @Override
     public long getDelay(Request<?> request) {
-        return ((long) (ThreadLocalRandom.current().nextFloat() * 5 + 1)) * 1000;
+        return bucket.getDelay();
+    }
+
+    @Override
+    public void enqueue(Request<?> request, Runnable execution, ScheduledExecutorService scheduler) {
+        long delay = bucket.reserve();
+        if (delay > 0) {
+            scheduler.schedule(execution, delay, TimeUnit.MILLISECONDS);
+        } else {
+            execution.run();
+        }
     }
 }
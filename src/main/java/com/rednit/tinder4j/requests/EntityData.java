@@ -0,0 +1,236 @@
+package com.rednit.tinder4j.requests;
+
+import com.fasterxml.jackson.annotation.JsonIgnoreProperties;
+import com.fasterxml.jackson.annotation.JsonProperty;
+import com.fasterxml.jackson.databind.DeserializationFeature;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
+import com.rednit.tinder4j.exceptions.ParsingException;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.List;
+
+/**
+ * Intermediate models Jackson binds the JSON of list endpoints into. Binding reads the response with a streaming
+ * parser straight into these classes, skipping the {@code Map} tree a {@link DataObject} is built on. Entities can
+ * be constructed from these models as an alternative to a {@link DataObject}.
+ */
+public class EntityData {
+
+    private static final ObjectMapper mapper;
+    private static final ObjectReader matchPageReader;
+    private static final ObjectReader matchReader;
+
+    static {
+        mapper = new ObjectMapper().configure(DeserializationFeature.FAIL_ON_UNKNOWN_PROPERTIES, false);
+        matchPageReader = mapper.readerFor(MatchPage.class);
+        matchReader = mapper.readerFor(MatchResponse.class);
+    }
+
+    public static MatchPage readMatchPage(InputStream json) {
+        try {
+            return matchPageReader.readValue(json);
+        } catch (IOException e) {
+            throw new ParsingException(e);
+        }
+    }
+
+    public static Match readMatch(InputStream json) {
+        try {
+            return matchReader.<MatchResponse>readValue(json).data;
+        } catch (IOException e) {
+            throw new ParsingException(e);
+        }
+    }
+
+    @JsonIgnoreProperties(ignoreUnknown = true)
+    public static class MatchPage {
+        @JsonProperty("data")
+        public MatchPageData data;
+    }
+
+    @JsonIgnoreProperties(ignoreUnknown = true)
+    public static class MatchPageData {
+        @JsonProperty("matches")
+        public List<Match> matches;
+        @JsonProperty("next_page_token")
+        public String nextPageToken;
+    }
+
+    @JsonIgnoreProperties(ignoreUnknown = true)
+    public static class MatchResponse {
+        @JsonProperty("data")
+        public Match data;
+    }
+
+    @JsonIgnoreProperties(ignoreUnknown = true)
+    public static class Match {
+        @JsonProperty("id")
+        public String id;
+        @JsonProperty("_id")
+        public String underscoreId;
+        @JsonProperty("closed")
+        public boolean closed;
+        @JsonProperty("created_date")
+        public String createdDate;
+        @JsonProperty("dead")
+        public boolean dead;
+        @JsonProperty("last_activity_date")
+        public String lastActivityDate;
+        @JsonProperty("pending")
+        public boolean pending;
+        @JsonProperty("is_super_like")
+        public boolean isSuperLike;
+        @JsonProperty("is_boost_match")
+        public boolean isBoostMatch;
+        @JsonProperty("is_super_boost_match")
+        public boolean isSuperBoostMatch;
+        @JsonProperty("is_experiences_match")
+        public boolean isExperiencesMatch;
+        @JsonProperty("is_fast_match")
+        public boolean isFastMatch;
+        @JsonProperty("is_opener")
+        public boolean isOpener;
+        @JsonProperty("following")
+        public boolean following;
+        @JsonProperty("following_moments")
+        public boolean followingMoments;
+        @JsonProperty("person")
+        public User person;
+        @JsonProperty("liked_content")
+        public LikedContent likedContent;
+        @JsonProperty("seen")
+        public Seen seen;
+    }
+
+    @JsonIgnoreProperties(ignoreUnknown = true)
+    public static class LikedContent {
+        @JsonProperty("by_opener")
+        public PhotoHolder byOpener;
+        @JsonProperty("by_closer")
+        public PhotoHolder byCloser;
+    }
+
+    @JsonIgnoreProperties(ignoreUnknown = true)
+    public static class PhotoHolder {
+        @JsonProperty("photo")
+        public Photo photo;
+    }
+
+    @JsonIgnoreProperties(ignoreUnknown = true)
+    public static class Seen {
+        @JsonProperty("match_seen")
+        public boolean matchSeen;
+        @JsonProperty("last_seen_message_id")
+        public String lastSeenMessageId;
+    }
+
+    @JsonIgnoreProperties(ignoreUnknown = true)
+    public static class User {
+        @JsonProperty("_id")
+        public String id;
+        @JsonProperty("bio")
+        public String bio;
+        @JsonProperty("birth_date")
+        public String birthDate;
+        @JsonProperty("name")
+        public String name;
+        @JsonProperty("gender")
+        public int gender;
+        @JsonProperty("badges")
+        public List<Badge> badges;
+        @JsonProperty("photos")
+        public List<Photo> photos;
+        @JsonProperty("birth_date_info")
+        public String birthDateInfo;
+        @JsonProperty("ping_time")
+        public String pingTime;
+        @JsonProperty("hide_age")
+        public boolean hideAge;
+        @JsonProperty("hide_distance")
+        public boolean hideDistance;
+        @JsonProperty("is_travelling")
+        public boolean isTravelling;
+    }
+
+    @JsonIgnoreProperties(ignoreUnknown = true)
+    public static class Badge {
+        @JsonProperty("type")
+        public String type;
+    }
+
+    @JsonIgnoreProperties(ignoreUnknown = true)
+    public static class Photo {
+        @JsonProperty("id")
+        public String id;
+        @JsonProperty("crop_info")
+        public CropInfo cropInfo;
+        @JsonProperty("url")
+        public String url;
+        @JsonProperty("processedFiles")
+        public List<SizedImage> processedFiles;
+        @JsonProperty("fileName")
+        public String fileName;
+        @JsonProperty("extension")
+        public String extension;
+        @JsonProperty("type")
+        public String type;
+        @JsonProperty("media_type")
+        public String mediaType;
+        @JsonProperty("assets")
+        public List<SizedImage> assets;
+        @JsonProperty("webp_qf")
+        public List<Integer> webpQf;
+        @JsonProperty("rank")
+        public int rank;
+        @JsonProperty("score")
+        public double score;
+        @JsonProperty("win_count")
+        public int winCount;
+    }
+
+    @JsonIgnoreProperties(ignoreUnknown = true)
+    public static class SizedImage {
+        @JsonProperty("width")
+        public int width;
+        @JsonProperty("height")
+        public int height;
+        @JsonProperty("url")
+        public String url;
+        @JsonProperty("quality")
+        public String quality;
+    }
+
+    @JsonIgnoreProperties(ignoreUnknown = true)
+    public static class CropInfo {
+        @JsonProperty("user_customized")
+        public boolean userCustomized;
+        @JsonProperty("user")
+        public FacialScope user;
+        @JsonProperty("algo")
+        public FacialScope algo;
+        @JsonProperty("faces")
+        public List<Face> faces;
+    }
+
+    @JsonIgnoreProperties(ignoreUnknown = true)
+    public static class Face {
+        @JsonProperty("algo")
+        public FacialScope algo;
+        @JsonProperty("bounding_box_percentage")
+        public double boundingBoxPercentage;
+    }
+
+    @JsonIgnoreProperties(ignoreUnknown = true)
+    public static class FacialScope {
+        @JsonProperty("width_pct")
+        public double widthPct;
+        @JsonProperty("x_offset_pct")
+        public double xOffsetPct;
+        @JsonProperty("height_pct")
+        public double heightPct;
+        @JsonProperty("y_offset_pct")
+        public double yOffsetPct;
+    }
+}
@@ -0,0 +1,149 @@
+package com.rednit.tinder4j.requests;
+
+import java.lang.ref.Reference;
+import java.lang.ref.ReferenceQueue;
+import java.lang.ref.WeakReference;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Supplier;
+
+/**
+ * Weak interning cache for immutable entity parts, keyed by a kind and an id. Photos, their images and urls show up
+ * in several responses for the same person, so entities decode them through this cache and share one instance as
+ * long as any entity still references it. Values are only held weakly, entries of collected values are purged on the
+ * next access.
+ */
+public class EntityInterner {
+
+    private final ConcurrentHashMap<Key, Entry> entries;
+    private final ReferenceQueue<Object> queue;
+
+    /**
+     * Constructs a new EntityInterner.
+     */
+    public EntityInterner() {
+        entries = new ConcurrentHashMap<>();
+        queue = new ReferenceQueue<>();
+    }
+
+    /**
+     * Gets the interned value for the given kind and id, or decodes and interns it if no value is present.
+     *
+     * @param kind    the kind of the value, usually its class
+     * @param id      the id of the value, may be {@code null} in which case the value isn't interned
+     * @param decoder the {@link Supplier} decoding the value
+     * @param <T>     the type of the value
+     * @return the interned value
+     */
+    @SuppressWarnings("unchecked")
+    public <T> T intern(Object kind, String id, Supplier<? extends T> decoder) {
+        if (id == null) {
+            return decoder.get();
+        }
+        purge();
+        Key key = new Key(kind, id);
+        Entry entry = entries.get(key);
+        Object value = entry == null ? null : entry.get();
+        if (value != null) {
+            return (T) value;
+        }
+        T decoded = decoder.get();
+        if (decoded == null) {
+            return null;
+        }
+        Object[] result = new Object[1];
+        entries.compute(key, (k, current) -> {
+            Object present = current == null ? null : current.get();
+            if (present != null) {
+                result[0] = present;
+                return current;
+            }
+            result[0] = decoded;
+            return new Entry(k, decoded, queue);
+        });
+        return (T) result[0];
+    }
+
+    /**
+     * Gets the interned string for the given kind and id. Unlike {@link #intern(Object, String, Supplier)} the
+     * interned string is replaced if it doesn't equal the given one.
+     *
+     * @param kind  the kind of the string
+     * @param id    the id the string belongs to, may be {@code null} in which case the string isn't interned
+     * @param value the string to intern
+     * @return the interned string
+     */
+    public String intern(Object kind, String id, String value) {
+        if (id == null || value == null) {
+            return value;
+        }
+        purge();
+        Object[] result = new Object[1];
+        entries.compute(new Key(kind, id), (k, current) -> {
+            Object present = current == null ? null : current.get();
+            if (value.equals(present)) {
+                result[0] = present;
+                return current;
+            }
+            result[0] = value;
+            return new Entry(k, value, queue);
+        });
+        return (String) result[0];
+    }
+
+    /**
+     * Gets the amount of interned values, including values that got collected but weren't purged yet.
+     *
+     * @return the amount of interned values
+     */
+    public int size() {
+        purge();
+        return entries.size();
+    }
+
+    private void purge() {
+        Reference<?> reference;
+        while ((reference = queue.poll()) != null) {
+            Entry entry = (Entry) reference;
+            entries.remove(entry.key, entry);
+        }
+    }
+
+    private static class Entry extends WeakReference<Object> {
+
+        private final Key key;
+
+        private Entry(Key key, Object value, ReferenceQueue<Object> queue) {
+            super(value, queue);
+            this.key = key;
+        }
+    }
+
+    private static class Key {
+
+        private final Object kind;
+        private final String id;
+
+        private Key(Object kind, String id) {
+            this.kind = kind;
+            this.id = id;
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (this == o) {
+                return true;
+            }
+            if (!(o instanceof Key)) {
+                return false;
+            }
+            Key key = (Key) o;
+            return kind.equals(key.kind) && id.equals(key.id);
+        }
+
+        @Override
+        public int hashCode() {
+            return Objects.hash(kind, id);
+        }
+    }
+}
@@ -0,0 +1,98 @@
+package com.rednit.tinder4j.requests;
+
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.VarHandle;
+import java.util.function.Supplier;
+
+/**
+ * Memoising holder for values that are decoded on first access. Entities use it to keep the raw parsed node of a
+ * sub-object and only construct the sub-object when its getter gets called. The value is published with
+ * compare-and-set instead of a lock, so holders stay small. If two threads race on the first access the supplier may
+ * run twice, but both threads get the same instance. Once the value is set the supplier, and with it the raw node, is
+ * released.
+ *
+ * @param <T> the type of the value
+ */
+public final class Lazy<T> implements Supplier<T> {
+
+    private static final Object UNSET = new Object();
+    private static final Lazy<?> EMPTY = new Lazy<>(null, null);
+    private static final VarHandle VALUE;
+
+    static {
+        try {
+            VALUE = MethodHandles.lookup().findVarHandle(Lazy.class, "value", Object.class);
+        } catch (ReflectiveOperationException e) {
+            throw new ExceptionInInitializerError(e);
+        }
+    }
+
+    private volatile Supplier<? extends T> supplier;
+    private volatile Object value = UNSET;
+
+    private Lazy(Supplier<? extends T> supplier) {
+        this.supplier = supplier;
+    }
+
+    private Lazy(Supplier<? extends T> supplier, Object value) {
+        this.supplier = supplier;
+        this.value = value;
+    }
+
+    /**
+     * Constructs a new Lazy.
+     *
+     * @param supplier the {@link Supplier} decoding the value, may return {@code null}
+     * @param <T>      the type of the value
+     * @return a new Lazy
+     */
+    public static <T> Lazy<T> of(Supplier<? extends T> supplier) {
+        return new Lazy<>(supplier);
+    }
+
+    /**
+     * Gets a shared Lazy holding {@code null}, used for absent sub-objects.
+     *
+     * @param <T> the type of the value
+     * @return a Lazy holding {@code null}
+     */
+    @SuppressWarnings("unchecked")
+    public static <T> Lazy<T> empty() {
+        return (Lazy<T>) EMPTY;
+    }
+
+    /**
+     * Gets the value, decoding it if this is the first access.
+     *
+     * @return the value
+     */
+    @Override
+    @SuppressWarnings("unchecked")
+    public T get() {
+        Object current = value;
+        if (current != UNSET) {
+            return (T) current;
+        }
+        Supplier<? extends T> decoder = supplier;
+        if (decoder == null) {
+            // the supplier is only released after the value got set
+            return (T) value;
+        }
+        Object decoded = decoder.get();
+        Object witness = VALUE.compareAndExchange(this, UNSET, decoded);
+        if (witness != UNSET) {
+            return (T) witness;
+        }
+        supplier = null;
+        return (T) decoded;
+    }
+
+    /**
+     * Whether the value has already been decoded.
+     *
+     * @return {@code true} if the value has already been decoded
+     */
+    public boolean isDecoded() {
+        return value != UNSET;
+    }
+}
@@ -2,7 +2,6 @@ package com.rednit.tinder4j.requests;
 
 import com.rednit.tinder4j.api.TinderClient;
 import com.rednit.tinder4j.exceptions.HttpStatusCodeException;
-import com.rednit.tinder4j.requests.async.CallbackContext;
 import com.rednit.tinder4j.api.requests.RestAction;
 import com.rednit.tinder4j.requests.async.RestActionImpl;
 import okhttp3.RequestBody;
@@ -20,12 +19,36 @@ public class Request<T> {
     private final Consumer<? super Throwable> onFailure;
     private final Route.CompiledRoute route;
     private final RequestBody body;
+    private final boolean direct;
+    private int retryCount;
+    private String coalesceKey;
 
     public Request(RestActionImpl<T> restAction,
                    Consumer<? super T> onSuccess,
                    Consumer<? super Throwable> onFailure,
                    Route.CompiledRoute route,
                    RequestBody body) {
+        this(restAction, onSuccess, onFailure, route, body, false);
+    }
+
+    /**
+     * Constructs a new Request.
+     *
+     * @param restAction the {@link RestActionImpl} this request belongs to
+     * @param onSuccess  the success callback
+     * @param onFailure  the failure callback
+     * @param route      the {@link Route.CompiledRoute} to send the request to
+     * @param body       the request body, may be {@code null}
+     * @param direct     whether the callbacks run on the thread that handles the response instead of the callback
+     *                   pool. Only use this for callbacks that complete a future and return immediately
+     */
+    public Request(RestActionImpl<T> restAction,
+                   Consumer<? super T> onSuccess,
+                   Consumer<? super Throwable> onFailure,
+                   Route.CompiledRoute route,
+                   RequestBody body,
+                   boolean direct) {
+        this.direct = direct;
         this.client = restAction.getTinderClient();
         this.restAction = restAction;
         this.onSuccess = onSuccess;
@@ -35,8 +58,12 @@ public class Request<T> {
     }
 
     public void onSuccess(T successObject) {
+        if (direct) {
+            onSuccess.accept(successObject);
+            return;
+        }
         client.getCallbackPool().execute(() -> {
-            try (CallbackContext ignored = CallbackContext.getInstance()) {
+            try {
                 onSuccess.accept(successObject);
             } catch (Throwable t) {
                 onFailure(t);
@@ -45,12 +72,16 @@ public class Request<T> {
     }
 
     public void onFailure(Response response) {
-        onFailure.accept(new HttpStatusCodeException("Http response returned status code " + response.getCode()));
+        onFailure(new HttpStatusCodeException("Http response returned status code " + response.getCode()));
     }
 
     public void onFailure(Throwable throwable) {
+        if (direct) {
+            onFailure.accept(throwable);
+            return;
+        }
         client.getCallbackPool().execute(() -> {
-            try (CallbackContext ignored = CallbackContext.getInstance()) {
+            try {
                 onFailure.accept(throwable);
             } catch (Throwable t) {
                 log.error("Encountered error while processing failure consumer!", t);
@@ -70,6 +101,22 @@ public class Request<T> {
         return body;
     }
 
+    public int getRetryCount() {
+        return retryCount;
+    }
+
+    void incrementRetryCount() {
+        retryCount++;
+    }
+
+    String getCoalesceKey() {
+        return coalesceKey;
+    }
+
+    void setCoalesceKey(String coalesceKey) {
+        this.coalesceKey = coalesceKey;
+    }
+
     public void handleResponse(Response response) {
         restAction.handleResponse(response, this);
     }
@@ -1,24 +1,67 @@
 package com.rednit.tinder4j.requests;
 
+import com.rednit.tinder4j.api.requests.HttpTransport;
 import com.rednit.tinder4j.api.requests.Ratelimiter;
+import okhttp3.Call;
+import okhttp3.Callback;
 import okhttp3.Headers;
 import okhttp3.OkHttpClient;
+import org.jetbrains.annotations.NotNull;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
 import java.io.IOException;
+import java.util.ArrayList;
 import java.util.HashMap;
-import java.util.concurrent.ThreadLocalRandom;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.Condition;
+import java.util.concurrent.locks.ReentrantLock;
 
 public class Requester {
 
     private final static Logger log = LoggerFactory.getLogger(Requester.class);
+    private final HttpTransport transport;
     private final OkHttpClient httpClient;
+    private final ScheduledExecutorService scheduler;
+    private final Runnable shutdownListener;
+    private final Set<Execution> waiting;
+    private final AtomicInteger pending;
+    private final ConcurrentMap<String, InFlight> inFlight;
+    private final LongAdder coalesced;
+    private final ReentrantLock idleLock;
+    private final Condition idle;
     private final Headers headers;
     private final String baseURL;
+    private volatile int maxRetries;
+    private volatile boolean coalescing;
+    private volatile boolean shutdown;
 
     public Requester(String token) {
-        this.httpClient = new OkHttpClient();
+        this(token, HttpTransport.getDefault());
+    }
+
+    public Requester(String token, HttpTransport transport) {
+        this.transport = transport;
+        this.httpClient = transport.getHttpClient();
+        this.scheduler = transport.getScheduler();
+        waiting = ConcurrentHashMap.newKeySet();
+        shutdownListener = this::cancelWaiting;
+        transport.addShutdownListener(shutdownListener);
+        pending = new AtomicInteger();
+        inFlight = new ConcurrentHashMap<>();
+        coalesced = new LongAdder();
+        idleLock = new ReentrantLock();
+        idle = idleLock.newCondition();
         headers = Headers.of(new HashMap<>() {{
             put(
                     "User-agent", "Mozilla/5.0 (Windows NT 10.0; Win64; x64) AppleWebKit/537.36 " +
@@ -28,9 +71,147 @@ public class Requester {
             put("X-Auth-Token", token);
         }});
         baseURL = "https://api.gotinder.com";
+        maxRetries = 5;
+    }
+
+    public ScheduledExecutorService getScheduler() {
+        return scheduler;
     }
 
     public <T> void request(Request<T> request) {
+        if (shutdown) {
+            throw new RejectedExecutionException("The client has been shut down!");
+        }
+        if (transport.isShutdown()) {
+            throw new RejectedExecutionException("The transport has been shut down!");
+        }
+        pending.incrementAndGet();
+        Route.CompiledRoute route = request.getCompiledRoute();
+        if (coalescing && route.getMethod() == Route.Method.GET) {
+            String key = route.getMethod().name() + " " + route.getRoute();
+            boolean[] attached = new boolean[1];
+            inFlight.compute(key, (k, call) -> {
+                if (call == null) {
+                    return new InFlight();
+                }
+                call.waiters.add(request);
+                attached[0] = true;
+                return call;
+            });
+            if (attached[0]) {
+                coalesced.increment();
+                log.debug("Attached {} request to {} to the pending call", route.getMethod().name(), route.getRoute());
+                return;
+            }
+            request.setCoalesceKey(key);
+        }
+        dispatch(request, 0);
+    }
+
+    /**
+     * Rejects any further requests. Pending requests are still completed.
+     */
+    public void shutdown() {
+        shutdown = true;
+        transport.removeShutdownListener(shutdownListener);
+    }
+
+    /**
+     * Gets the amount of requests that are waiting for their response.
+     *
+     * @return the amount of pending requests
+     */
+    public int getPendingCount() {
+        return pending.get();
+    }
+
+    /**
+     * Sets whether identical GET requests are coalesced. If enabled, a GET request to a route that already has a
+     * pending request with the same method and compiled route doesn't get sent, but receives the response of the
+     * pending request instead. Default value is {@code false}.
+     *
+     * @param coalescing {@code true} to coalesce identical GET requests
+     */
+    public void setCoalescing(boolean coalescing) {
+        this.coalescing = coalescing;
+    }
+
+    /**
+     * Whether identical GET requests are coalesced.
+     *
+     * @return {@code true} if identical GET requests are coalesced
+     * @see #setCoalescing(boolean)
+     */
+    public boolean isCoalescing() {
+        return coalescing;
+    }
+
+    /**
+     * Gets the amount of requests that weren't sent because they were attached to an identical pending request.
+     *
+     * @return the amount of saved requests
+     */
+    public long getCoalescedCount() {
+        return coalesced.sum();
+    }
+
+    /**
+     * Gets the amount of GET requests that are currently pending and accept further identical requests.
+     *
+     * @return the amount of coalescable pending requests
+     */
+    public int getInFlightCount() {
+        return inFlight.size();
+    }
+
+    /**
+     * Sets how often a rate limited request is retried before it fails with a
+     * {@link com.rednit.tinder4j.exceptions.HttpStatusCodeException HttpStatusCodeException}.
+     *
+     * @param maxRetries the maximum amount of retries
+     */
+    public void setMaxRetries(int maxRetries) {
+        if (maxRetries < 0) {
+            throw new IllegalArgumentException("Max retries cannot be negative!");
+        }
+        this.maxRetries = maxRetries;
+    }
+
+    // hands the request to the ratelimiter, any error on the way fails the request instead of getting lost
+    private void dispatch(Request<?> request, long delay) {
+        Execution execution = new Execution(request);
+        waiting.add(execution);
+        // checked after adding, so either this or the shutdown listener cancels the execution
+        if (transport.isShutdown()) {
+            execution.cancel(new CancellationException("The transport has been shut down!"));
+            return;
+        }
+        try {
+            if (delay > 0) {
+                scheduler.schedule(execution::enqueue, delay, TimeUnit.MILLISECONDS);
+            } else {
+                execution.enqueue();
+            }
+        } catch (Throwable t) {
+            execution.reject(t);
+        }
+    }
+
+    // the scheduler dropped its tasks and the ratelimiter won't drain its queues anymore
+    private void cancelWaiting() {
+        CancellationException exception = new CancellationException("The transport has been shut down!");
+        waiting.forEach(execution -> execution.cancel(exception));
+    }
+
+    private <T> void execute(Request<T> request) {
+        try {
+            send(request);
+        } catch (Throwable t) {
+            failAll(request, t);
+        }
+    }
+
+    private <T> void send(Request<T> request) {
         String url = baseURL + request.getCompiledRoute().getRoute();
         Route.Method method = request.getCompiledRoute().getMethod();
         log.debug("Sending {} request to {}", method.name(), url);
@@ -53,44 +234,179 @@ public class Requester {
                 throw new UnsupportedOperationException("Unsupported request method!");
         }
 
-        Ratelimiter ratelimiter = request.getClient().getRatelimiter();
-        if (ratelimiter.shouldDelay(request)) {
-            synchronized (this) {
+        httpClient.newCall(builder.build()).enqueue(new Callback() {
+            @Override
+            public void onFailure(@NotNull Call call, @NotNull IOException e) {
+                failAll(request, e);
+            }
+
+            @Override
+            public void onResponse(@NotNull Call call, @NotNull okhttp3.Response data) {
+                Response response = new Response(data);
                 try {
-                    long timeout = ratelimiter.getDelay(request);
-                    log.debug("Too many requests. Waiting for {} ms", timeout);
-                    wait(timeout);
-                    log.debug("Continuing...");
-                } catch (InterruptedException e) {
-                    log.error("An exception occurred while rate limiting!", e);
+                    handle(request, response);
+                } catch (Throwable t) {
+                    response.close();
+                    failAll(request, t);
                 }
             }
-        }
+        });
+    }
 
-        Response response;
+    private <T> void handle(Request<T> request, Response response) {
+        Ratelimiter ratelimiter = request.getClient().getRatelimiter();
+        ratelimiter.update(request, response);
+        if (response.isRateLimit() && request.getRetryCount() < maxRetries) {
+            response.close();
+            long timeout = ratelimiter.getRetryDelay(request, response);
+            request.incrementRetryCount();
+            log.debug("Too many requests. Reattempting in {} ms ({}/{})", timeout, request.getRetryCount(), maxRetries);
+            // the retry goes through the ratelimiter again, so it takes a slot of its bucket like any other request
+            dispatch(request, timeout);
+            return;
+        }
+        List<Request<?>> waiters = detach(request);
+        if (waiters.isEmpty()) {
+            deliver(request, response);
+            return;
+        }
+        byte[] body;
         try {
-            okhttp3.Response data = httpClient.newCall(builder.build()).execute();
-            response = new Response(data);
+            body = response.bytes();
         } catch (IOException e) {
-            request.onFailure(e);
+            response.close();
+            fail(request, e);
+            waiters.forEach(waiter -> fail(waiter, e));
             return;
         }
-        if (response.isOk()) {
+        deliver(request, response.withBody(body));
+        waiters.forEach(waiter -> deliver(waiter, response.withBody(body)));
+    }
+
+    private void deliver(Request<?> request, Response response) {
+        try {
             request.handleResponse(response);
-        } else if (response.isRateLimit()) {
-            synchronized (this) {
-                try {
-                    int timeout = (int) (ThreadLocalRandom.current().nextFloat() * 10 + 1);
-                    log.debug("Too many requests. Waiting for {} secs", timeout);
-                    wait(timeout * 1000L);
-                    log.debug("Reattempting...");
-                    request(request);
-                } catch (InterruptedException e) {
-                    log.error("An exception occurred while rate limiting!", e);
+        } catch (Throwable t) {
+            response.close();
+            fail(request, t);
+            return;
+        }
+        finish();
+    }
+
+    private void failAll(Request<?> request, Throwable throwable) {
+        fail(request, throwable);
+        detach(request).forEach(waiter -> fail(waiter, throwable));
+    }
+
+    // the failure callback can be rejected as well if the client was shut down meanwhile
+    private void fail(Request<?> request, Throwable throwable) {
+        try {
+            request.onFailure(throwable);
+        } catch (Throwable t) {
+            log.error("Failed to pass the failure of a request to {} to its callback!",
+                    request.getCompiledRoute().getRoute(), t);
+        } finally {
+            finish();
+        }
+    }
+
+    private List<Request<?>> detach(Request<?> request) {
+        String key = request.getCoalesceKey();
+        if (key == null) {
+            return List.of();
+        }
+        InFlight call = inFlight.remove(key);
+        return call == null ? List.of() : call.waiters;
+    }
+
+    private void finish() {
+        if (pending.decrementAndGet() == 0) {
+            idleLock.lock();
+            try {
+                idle.signalAll();
+            } finally {
+                idleLock.unlock();
+            }
+        }
+    }
+
+    /**
+     * Blocks the current thread until no request is waiting for its response anymore.
+     *
+     * @param timeout the maximum time to wait
+     * @param unit    the {@link TimeUnit} of the timeout
+     * @return {@code true} if all requests finished before the timeout elapsed
+     * @throws InterruptedException if the current thread was interrupted while waiting
+     */
+    public boolean awaitIdle(long timeout, TimeUnit unit) throws InterruptedException {
+        long nanos = unit.toNanos(timeout);
+        idleLock.lock();
+        try {
+            while (pending.get() > 0) {
+                if (nanos <= 0) {
+                    return false;
                 }
+                nanos = idle.awaitNanos(nanos);
             }
-        } else {
-            request.onFailure(response);
+            return true;
+        } finally {
+            idleLock.unlock();
         }
     }
+
+    // a request waiting for the ratelimiter, which is either executed or cancelled exactly once
+    private class Execution implements Runnable {
+
+        private final Request<?> request;
+        private final AtomicBoolean claimed;
+
+        private Execution(Request<?> request) {
+            this.request = request;
+            claimed = new AtomicBoolean();
+        }
+
+        @Override
+        public void run() {
+            if (claim()) {
+                execute(request);
+            }
+        }
+
+        private void enqueue() {
+            try {
+                request.getClient().getRatelimiter().enqueue(request, this, scheduler);
+            } catch (Throwable t) {
+                reject(t);
+            }
+        }
+
+        private boolean claim() {
+            if (claimed.compareAndSet(false, true)) {
+                waiting.remove(this);
+                return true;
+            }
+            return false;
+        }
+
+        private void cancel(Throwable throwable) {
+            if (claim()) {
+                failAll(request, throwable);
+            }
+        }
+
+        private void reject(Throwable throwable) {
+            if (claim()) {
+                failAll(request, throwable);
+            } else {
+                log.error("Failed to enqueue request to {}!", request.getCompiledRoute().getRoute(), throwable);
+            }
+        }
+    }
+
+    private static class InFlight {
+
+        // only modified inside inFlight.compute, the leading request reads it after removing the call from the map
+        private final List<Request<?>> waiters = new ArrayList<>();
+    }
 }
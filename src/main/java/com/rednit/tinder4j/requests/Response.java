@@ -1,11 +1,23 @@
 package com.rednit.tinder4j.requests;
 
+import okhttp3.MediaType;
+import okhttp3.ResponseBody;
+
+import java.io.ByteArrayInputStream;
 import java.io.Closeable;
 import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.Date;
 import java.util.Objects;
+import java.util.Optional;
+import java.util.OptionalInt;
+import java.util.OptionalLong;
 
 public class Response implements Closeable {
 
+    private static final long EPOCH_THRESHOLD = 1_000_000_000L;
+    private static final byte[] EMPTY_BODY = "{}".getBytes(StandardCharsets.UTF_8);
     private final int code;
     private final okhttp3.Response rawResponse;
 
@@ -22,10 +34,111 @@ public class Response implements Closeable {
         }
     }
 
+    public InputStream stream() {
+        ResponseBody body = rawResponse.body();
+        if (body == null) {
+            return new ByteArrayInputStream(EMPTY_BODY);
+        }
+        return body.byteStream();
+    }
+
+    /**
+     * Reads the whole body into memory and closes it.
+     *
+     * @return the body as bytes
+     * @throws IOException if the body couldn't be read
+     */
+    public byte[] bytes() throws IOException {
+        ResponseBody body = rawResponse.body();
+        if (body == null) {
+            return EMPTY_BODY;
+        }
+        return body.bytes();
+    }
+
+    /**
+     * Creates a copy of this response with the given body, which was read with {@link #bytes()} before. Each copy
+     * can be consumed on its own.
+     *
+     * @param body the body of the copy
+     * @return the copy of this response
+     */
+    public Response withBody(byte[] body) {
+        ResponseBody original = rawResponse.body();
+        MediaType contentType = original == null ? null : original.contentType();
+        return new Response(rawResponse.newBuilder().body(ResponseBody.create(body, contentType)).build());
+    }
+
     public int getCode() {
         return code;
     }
 
+    public Optional<String> getHeader(String name) {
+        return Optional.ofNullable(rawResponse.header(name));
+    }
+
+    /**
+     * Gets the time to wait before retrying in ms, read from the Retry-After header, which is either a delay in
+     * seconds or a http date, or from the x-ratelimit-reset header as fallback.
+     *
+     * @return an {@link OptionalLong} holding the time to wait in ms
+     */
+    public OptionalLong getRetryAfter() {
+        Optional<String> retryAfter = getHeader("Retry-After");
+        if (retryAfter.isPresent()) {
+            OptionalLong seconds = parseSeconds(retryAfter.get());
+            if (seconds.isPresent()) {
+                return seconds;
+            }
+            Date date = rawResponse.headers().getDate("Retry-After");
+            if (date != null) {
+                return OptionalLong.of(Math.max(0, date.getTime() - System.currentTimeMillis()));
+            }
+        }
+        return getRateLimitReset();
+    }
+
+    /**
+     * Gets the amount of requests left in the current rate limit window, read from the x-ratelimit-remaining header.
+     *
+     * @return an {@link OptionalInt} holding the amount of requests left
+     */
+    public OptionalInt getRateLimitRemaining() {
+        Optional<String> remaining = getHeader("x-ratelimit-remaining");
+        try {
+            return remaining.map(value -> OptionalInt.of(Integer.parseInt(value.trim()))).orElse(OptionalInt.empty());
+        } catch (NumberFormatException e) {
+            return OptionalInt.empty();
+        }
+    }
+
+    /**
+     * Gets the time until the current rate limit window resets in ms, read from the x-ratelimit-reset header. The
+     * header may either contain the seconds until the reset or the reset time as epoch seconds.
+     *
+     * @return an {@link OptionalLong} holding the time until the reset in ms
+     */
+    public OptionalLong getRateLimitReset() {
+        Optional<String> reset = getHeader("x-ratelimit-reset");
+        if (reset.isEmpty()) {
+            return OptionalLong.empty();
+        }
+        return parseSeconds(reset.get());
+    }
+
+    private OptionalLong parseSeconds(String value) {
+        double seconds;
+        try {
+            seconds = Double.parseDouble(value.trim());
+        } catch (NumberFormatException e) {
+            return OptionalLong.empty();
+        }
+        if (seconds > EPOCH_THRESHOLD) {
+            return OptionalLong.of(Math.max(0, (long) (seconds * 1000) - System.currentTimeMillis()));
+        }
+        return OptionalLong.of(Math.max(0, (long) (seconds * 1000)));
+    }
+
     public boolean isError() {
         return !isOk() && !isRateLimit();
     }
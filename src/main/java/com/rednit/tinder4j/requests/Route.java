@@ -1,5 +1,10 @@
 package com.rednit.tinder4j.requests;
 
+import java.net.URLEncoder;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+
 @SuppressWarnings("unused")
 public class Route {
 
@@ -57,14 +62,60 @@ public class Route {
 
     private final Method method;
     private final String route;
+    private final String[] segments;
+    private final String bucket;
 
     private Route(Method method, String route) {
+        route = route.replace(" ", "");
+        if (route.endsWith("/")) {
+            route = route.substring(0, route.length() - 1);
+        }
+        if (!route.startsWith("/")) {
+            route = "/" + route;
+        }
         this.method = method;
         this.route = route;
+        this.segments = split(route);
+        bucket = method.name() + ": " + route;
+    }
+
+    // splits the route into literal segments, a parameter belongs between two consecutive segments
+    private static String[] split(String route) {
+        List<String> segments = new ArrayList<>();
+        int start = 0;
+        int open = route.indexOf('{');
+        while (open != -1) {
+            int close = route.indexOf('}', open);
+            if (close == -1) {
+                throw new IllegalArgumentException("Unclosed parameter in route " + route);
+            }
+            segments.add(route.substring(start, open));
+            start = close + 1;
+            open = route.indexOf('{', start);
+        }
+        segments.add(route.substring(start));
+        return segments.toArray(new String[0]);
+    }
+
+    private static String encode(Object param) {
+        return URLEncoder.encode(String.valueOf(param), StandardCharsets.UTF_8).replace("+", "%20");
     }
 
     public CompiledRoute compile(Object... params) {
-        return new CompiledRoute(route, method, params);
+        if (params.length != getParameterCount()) {
+            throw new IllegalArgumentException(String.format(
+                    "%s expects %d parameters but got %d", this, getParameterCount(), params.length
+            ));
+        }
+        if (params.length == 0) {
+            return new CompiledRoute(this, route);
+        }
+        StringBuilder builder = new StringBuilder(route.length() + params.length * 16);
+        builder.append(segments[0]);
+        for (int i = 0; i < params.length; i++) {
+            builder.append(encode(params[i])).append(segments[i + 1]);
+        }
+        return new CompiledRoute(this, builder.toString());
     }
 
     public String getRoute() {
@@ -75,9 +126,23 @@ public class Route {
         return method;
     }
 
+    public int getParameterCount() {
+        return segments.length - 1;
+    }
+
+    /**
+     * Gets the rate limit bucket of this route, which is the method and the template. Routes with the same method and
+     * template share a bucket.
+     *
+     * @return the bucket of this route
+     */
+    public String getBucket() {
+        return bucket;
+    }
+
     @Override
     public String toString() {
-        return String.format("%s: %s", method.name(), route);
+        return bucket;
     }
 
     public enum Method {
@@ -88,27 +153,20 @@ public class Route {
 
     public static class CompiledRoute {
 
+        private final Route baseRoute;
         private final String route;
         private final Method method;
 
-        CompiledRoute(String route, Method method, Object... params) {
-            if (route.endsWith("/")) {
-                route = route.substring(0, route.length() - 1);
-            }
-            if (!route.startsWith("/")) {
-                route = "/" + route;
-            }
-            while (route.contains(" ")) {
-                route = route.replaceAll(" ", "");
-            }
-            for (Object param : params) {
-                route = route.replaceFirst("\\{.+?(?=\\})\\}", param.toString());
-            }
-
-            this.method = method;
+        CompiledRoute(Route baseRoute, String route) {
+            this.baseRoute = baseRoute;
+            this.method = baseRoute.getMethod();
             this.route = route;
         }
 
+        public Route getBaseRoute() {
+            return baseRoute;
+        }
+
         public String getRoute() {
             return route;
         }
@@ -0,0 +1,131 @@
+package com.rednit.tinder4j.requests;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Lock-free token bucket. The amount of tokens and the time of the last refill are packed into a single
+ * {@code long}, which is updated with compare-and-set. The upper 40 bits hold the refill time in ms relative to the
+ * creation of the bucket and the lower 24 bits hold the token count with an offset, so the count can become negative
+ * when tokens are reserved ahead of time.
+ */
+public class TokenBucket {
+
+    private static final int TOKEN_BITS = 24;
+    private static final long TOKEN_MASK = (1L << TOKEN_BITS) - 1;
+    private static final long TOKEN_OFFSET = 1L << (TOKEN_BITS - 1);
+    private final AtomicLong state;
+    private final long origin;
+    private final int capacity;
+    private final long interval;
+
+    /**
+     * Constructs a new TokenBucket that starts full.
+     *
+     * @param capacity the maximum amount of tokens
+     * @param interval the time it takes to refill one token
+     * @param unit     the {@link TimeUnit} of the interval
+     */
+    public TokenBucket(int capacity, long interval, TimeUnit unit) {
+        if (capacity < 1 || capacity >= TOKEN_OFFSET) {
+            throw new IllegalArgumentException("Capacity must be between 1 and " + (TOKEN_OFFSET - 1));
+        }
+        this.interval = Math.max(1, unit.toMillis(interval));
+        this.capacity = capacity;
+        origin = System.nanoTime();
+        state = new AtomicLong(pack(capacity, 0));
+    }
+
+    /**
+     * Takes a token if one is available.
+     *
+     * @return {@code true} if a token was taken
+     */
+    public boolean tryAcquire() {
+        long now = now();
+        while (true) {
+            long current = state.get();
+            long refilled = refill(current, now);
+            long tokens = tokens(refilled);
+            if (tokens < 1) {
+                return false;
+            }
+            if (state.compareAndSet(current, pack(tokens - 1, time(refilled)))) {
+                return true;
+            }
+        }
+    }
+
+    /**
+     * Reserves the next token, even if it isn't available yet. Reservations are handed out in order, so concurrent
+     * callers never get the same token.
+     *
+     * @return the time in ms the caller has to wait until the reserved token is available, {@code 0} if it is
+     * available immediately
+     * @throws IllegalStateException if too many tokens are reserved already
+     */
+    public long reserve() {
+        long now = now();
+        while (true) {
+            long current = state.get();
+            long refilled = refill(current, now);
+            long tokens = tokens(refilled) - 1;
+            if (tokens <= -TOKEN_OFFSET) {
+                throw new IllegalStateException("Too many pending reservations!");
+            }
+            if (state.compareAndSet(current, pack(tokens, time(refilled)))) {
+                return tokens >= 0 ? 0 : time(refilled) + (-tokens) * interval - now;
+            }
+        }
+    }
+
+    /**
+     * Gets the time until the next token is available without taking it.
+     *
+     * @return the time in ms until the next token is available, {@code 0} if a token is available
+     */
+    public long getDelay() {
+        long now = now();
+        long refilled = refill(state.get(), now);
+        long tokens = tokens(refilled);
+        return tokens >= 1 ? 0 : time(refilled) + (1 - tokens) * interval - now;
+    }
+
+    /**
+     * Gets the amount of tokens currently available. This is negative if tokens are reserved ahead of time.
+     *
+     * @return the amount of tokens
+     */
+    public long getTokens() {
+        return tokens(refill(state.get(), now()));
+    }
+
+    private long refill(long current, long now) {
+        long tokens = tokens(current);
+        long time = time(current);
+        long added = (now - time) / interval;
+        if (added <= 0) {
+            return current;
+        }
+        if (tokens + added >= capacity) {
+            return pack(capacity, now);
+        }
+        return pack(tokens + added, time + added * interval);
+    }
+
+    private long now() {
+        return TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - origin);
+    }
+
+    private static long pack(long tokens, long time) {
+        return (time << TOKEN_BITS) | (tokens + TOKEN_OFFSET);
+    }
+
+    private static long tokens(long state) {
+        return (state & TOKEN_MASK) - TOKEN_OFFSET;
+    }
+
+    private static long time(long state) {
+        return state >>> TOKEN_BITS;
+    }
+}
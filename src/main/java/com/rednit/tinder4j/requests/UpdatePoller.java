@@ -0,0 +1,178 @@
+package com.rednit.tinder4j.requests;
+
+import com.rednit.tinder4j.api.TinderClient;
+import com.rednit.tinder4j.api.entities.Update;
+import com.rednit.tinder4j.api.events.Event;
+import com.rednit.tinder4j.api.events.EventListener;
+import com.rednit.tinder4j.api.events.MatchUnmatchedEvent;
+import com.rednit.tinder4j.api.events.NewMatchEvent;
+import com.rednit.tinder4j.api.events.NewMessageEvent;
+import com.rednit.tinder4j.requests.async.FutureRestAction;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.time.Instant;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * Polls the updates endpoint and dispatches {@link Event Events} to the registered listeners. Polls are scheduled on the
+ * scheduler of the client, one at a time. The interval starts at the standard poll interval suggested by Tinder and is
+ * doubled after every poll without events, up to the persistent poll interval. Any event resets the interval.
+ */
+public class UpdatePoller {
+
+    private static final Logger log = LoggerFactory.getLogger(UpdatePoller.class);
+    private static final long MIN_INTERVAL = 2000;
+    private static final long MAX_INTERVAL = 60000;
+    private final TinderClient client;
+    private final ScheduledExecutorService scheduler;
+    private final List<EventListener> listeners;
+    private final ReentrantLock lock;
+    private ScheduledFuture<?> next;
+    private boolean running;
+    private long generation;
+    private volatile String lastActivityDate;
+    private volatile long interval;
+
+    public UpdatePoller(TinderClient client, ScheduledExecutorService scheduler) {
+        this.client = client;
+        this.scheduler = scheduler;
+        listeners = new CopyOnWriteArrayList<>();
+        lock = new ReentrantLock();
+        interval = MIN_INTERVAL;
+    }
+
+    public void addListeners(EventListener... listeners) {
+        this.listeners.addAll(Arrays.asList(listeners));
+        if (!this.listeners.isEmpty()) {
+            start();
+        }
+    }
+
+    public void removeListeners(EventListener... listeners) {
+        this.listeners.removeAll(Arrays.asList(listeners));
+        if (this.listeners.isEmpty()) {
+            stop();
+        }
+    }
+
+    public List<EventListener> getListeners() {
+        return Collections.unmodifiableList(listeners);
+    }
+
+    public String getLastActivityDate() {
+        return lastActivityDate;
+    }
+
+    public void start() {
+        lock.lock();
+        try {
+            if (running) {
+                return;
+            }
+            running = true;
+            generation++;
+            interval = MIN_INTERVAL;
+            if (lastActivityDate == null) {
+                lastActivityDate = Instant.now().truncatedTo(ChronoUnit.MILLIS).toString();
+            }
+            schedule(generation, 0);
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    public void stop() {
+        lock.lock();
+        try {
+            running = false;
+            if (next != null) {
+                next.cancel(false);
+                next = null;
+            }
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    // the generation prevents a poll that was in flight while restarting from scheduling a second poll loop
+    private void schedule(long generation, long delay) {
+        lock.lock();
+        try {
+            if (running && this.generation == generation) {
+                next = scheduler.schedule(() -> poll(generation), delay, TimeUnit.MILLISECONDS);
+            }
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    // every path reschedules the next poll, so only stop() ends the poll loop
+    private void poll(long generation) {
+        try {
+            client.getUpdates(lastActivityDate).submit().whenComplete((update, throwable) -> {
+                if (throwable != null) {
+                    retry(generation, FutureRestAction.unwrap(throwable));
+                    return;
+                }
+                try {
+                    handle(update);
+                } catch (Throwable t) {
+                    retry(generation, t);
+                    return;
+                }
+                schedule(generation, interval);
+            });
+        } catch (Throwable t) {
+            retry(generation, t);
+        }
+    }
+
+    private void handle(Update update) {
+        update.getLastActivityDate().ifPresent(date -> lastActivityDate = date);
+        List<Event> events = toEvents(update);
+        long min = update.getPollInterval(false).orElse(MIN_INTERVAL);
+        long max = Math.max(min, update.getPollInterval(true).orElse(MAX_INTERVAL));
+        interval = events.isEmpty() ? Math.max(min, Math.min(interval * 2, max)) : min;
+        dispatch(events);
+    }
+
+    private void retry(long generation, Throwable throwable) {
+        interval = Math.min(interval * 2, MAX_INTERVAL);
+        log.warn("Polling updates failed! Retrying in {} ms", interval, throwable);
+        schedule(generation, interval);
+    }
+
+    private List<Event> toEvents(Update update) {
+        List<Event> events = new ArrayList<>();
+        update.getMatches().stream()
+                .filter(match -> update.getNewMatches().contains(match.getId()))
+                .forEach(match -> events.add(new NewMatchEvent(client, match)));
+        update.getNewMessages().forEach(message -> events.add(new NewMessageEvent(client, message.getMessage())));
+        update.getUnmatched().forEach(matchId -> events.add(new MatchUnmatchedEvent(
+                client, matchId, update.getUnmatchedMatch(matchId).orElse(null)
+        )));
+        return events;
+    }
+
+    private void dispatch(List<Event> events) {
+        for (Event event : events) {
+            for (EventListener listener : listeners) {
+                try {
+                    listener.onEvent(event);
+                } catch (Throwable t) {
+                    log.error("Encountered error while dispatching {}!", event, t);
+                }
+            }
+        }
+    }
+}
@@ -0,0 +1,33 @@
+package com.rednit.tinder4j.requests;
+
+import java.util.concurrent.ExecutorService;
+
+/**
+ * Access to virtual threads, which are only available on Java 21 and newer. This is the implementation for older
+ * runtimes, the multi-release jar contains the implementation for Java 21 in {@code META-INF/versions/21}.
+ */
+public final class VirtualThreads {
+
+    private VirtualThreads() {
+    }
+
+    /**
+     * Whether the runtime supports virtual threads.
+     *
+     * @return {@code true} if the runtime supports virtual threads
+     */
+    public static boolean isSupported() {
+        return false;
+    }
+
+    /**
+     * Creates an {@link ExecutorService} that starts a new virtual thread for each task.
+     *
+     * @param name the name prefix of the threads
+     * @return the {@link ExecutorService}
+     * @throws UnsupportedOperationException if the runtime doesn't support virtual threads
+     */
+    public static ExecutorService newExecutor(String name) {
+        throw new UnsupportedOperationException("Virtual threads require Java 21 or newer!");
+    }
+}
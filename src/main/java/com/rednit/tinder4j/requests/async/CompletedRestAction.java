@@ -3,6 +3,7 @@ package com.rednit.tinder4j.requests.async;
 import com.rednit.tinder4j.api.requests.RestAction;
 import org.jetbrains.annotations.Nullable;
 
+import java.util.concurrent.CompletableFuture;
 import java.util.function.Consumer;
 
 public class CompletedRestAction<T> implements RestAction<T> {
@@ -20,6 +21,11 @@ public class CompletedRestAction<T> implements RestAction<T> {
         }
     }
 
+    @Override
+    public CompletableFuture<T> submit() {
+        return CompletableFuture.completedFuture(object);
+    }
+
     @Override
     public T complete() {
         return object;
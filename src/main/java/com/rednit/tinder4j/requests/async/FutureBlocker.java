@@ -0,0 +1,65 @@
+package com.rednit.tinder4j.requests.async;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinWorkerThread;
+
+/**
+ * Waits for a {@link CompletableFuture} as a {@link ForkJoinPool.ManagedBlocker}. If the waiting thread is a worker
+ * of a {@link ForkJoinPool}, such as the callback pool of a client, the pool is told about the blocked worker and
+ * compensates by activating a spare thread. Thus, callbacks can block with {@code complete()} without starving the
+ * callbacks that would complete the future.
+ */
+public class FutureBlocker implements ForkJoinPool.ManagedBlocker {
+
+    private final CompletableFuture<?> future;
+    private final CountDownLatch latch;
+
+    private FutureBlocker(CompletableFuture<?> future) {
+        this.future = future;
+        latch = new CountDownLatch(1);
+        future.whenComplete((value, throwable) -> latch.countDown());
+    }
+
+    /**
+     * Waits for the future and returns its result. Only workers of a {@link ForkJoinPool} block through the pool,
+     * any other thread, including virtual threads, simply joins the future. Same as
+     * {@link CompletableFuture#join()}, waiting isn't interruptible, an interrupt is restored once the future is done.
+     *
+     * @param future the {@link CompletableFuture} to wait for
+     * @param <T>    the type of the result
+     * @return the result of the future
+     * @throws java.util.concurrent.CompletionException if the future completed exceptionally
+     */
+    public static <T> T join(CompletableFuture<T> future) {
+        if (!future.isDone() && Thread.currentThread() instanceof ForkJoinWorkerThread) {
+            FutureBlocker blocker = new FutureBlocker(future);
+            boolean interrupted = false;
+            // keep blocking through the pool, a plain join() would block the worker without compensation
+            while (!future.isDone()) {
+                try {
+                    ForkJoinPool.managedBlock(blocker);
+                } catch (InterruptedException e) {
+                    interrupted = true;
+                }
+            }
+            if (interrupted) {
+                Thread.currentThread().interrupt();
+            }
+        }
+        return future.join();
+    }
+
+    @Override
+    public boolean block() throws InterruptedException {
+        // a latch instead of future.get(), which would register itself as another managed blocker
+        latch.await();
+        return true;
+    }
+
+    @Override
+    public boolean isReleasable() {
+        return future.isDone();
+    }
+}
@@ -0,0 +1,116 @@
+package com.rednit.tinder4j.requests.async;
+
+import com.rednit.tinder4j.api.requests.RestAction;
+import com.rednit.tinder4j.requests.Request;
+import org.jetbrains.annotations.Nullable;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.TimeUnit;
+import java.util.function.BiConsumer;
+import java.util.function.Consumer;
+import java.util.function.Supplier;
+
+public class FutureRestAction<T> implements RestAction<T> {
+
+    private static final Logger log = LoggerFactory.getLogger(RestAction.class);
+    private final Supplier<? extends CompletableFuture<T>> supplier;
+    private final Executor executor;
+
+    public FutureRestAction(RestAction<?> source, Supplier<? extends CompletableFuture<T>> supplier) {
+        this.supplier = supplier;
+        this.executor = callbackExecutor(source);
+    }
+
+    public static <T> FutureRestAction<T> timeout(RestAction<T> source, long timeout, TimeUnit unit) {
+        return new FutureRestAction<>(source, () -> {
+            CompletableFuture<T> future = source.submit().orTimeout(timeout, unit);
+            // orTimeout completes on the JDK's delay scheduler, move back to the callback threads
+            return future.whenCompleteAsync((value, throwable) -> {
+            }, callbackExecutor(source));
+        });
+    }
+
+    public static <T> FutureRestAction<T> delay(RestAction<T> source, long delay, TimeUnit unit) {
+        return new FutureRestAction<>(source, () -> source.submit().thenApplyAsync(
+                value -> value, CompletableFuture.delayedExecutor(delay, unit, callbackExecutor(source))
+        ));
+    }
+
+    public static Throwable unwrap(Throwable throwable) {
+        while (throwable instanceof CompletionException && throwable.getCause() != null) {
+            throwable = throwable.getCause();
+        }
+        return throwable;
+    }
+
+    private static Executor callbackExecutor(RestAction<?> action) {
+        if (action instanceof RestActionImpl) {
+            return ((RestActionImpl<?>) action).getTinderClient().getCallbackPool();
+        }
+        if (action instanceof PaginationActionImpl) {
+            return ((PaginationActionImpl<?, ?>) action).getTinderClient().getCallbackPool();
+        }
+        if (action instanceof FutureRestAction) {
+            return ((FutureRestAction<?>) action).executor;
+        }
+        return Runnable::run;
+    }
+
+    @Override
+    public void queue(@Nullable Consumer<? super T> success, @Nullable Consumer<? super Throwable> failure) {
+        submit().whenComplete(callback(success, failure));
+    }
+
+    /**
+     * Adapts a pair of queue callbacks to a {@link CompletableFuture}. Same as {@link Request#onSuccess(Object)}, an
+     * error of the success consumer is passed to the failure consumer. Errors are only logged if there is no failure
+     * consumer.
+     *
+     * @param success the success consumer, may be {@code null}
+     * @param failure the failure consumer, may be {@code null}
+     * @param <T>     the type of the result
+     * @return a {@link BiConsumer} to pass to {@link CompletableFuture#whenComplete(BiConsumer)}
+     */
+    static <T> BiConsumer<T, Throwable> callback(@Nullable Consumer<? super T> success,
+                                                 @Nullable Consumer<? super Throwable> failure) {
+        return (value, throwable) -> {
+            if (throwable != null) {
+                fail(failure, unwrap(throwable));
+                return;
+            }
+            try {
+                if (success != null) {
+                    success.accept(value);
+                }
+            } catch (Throwable t) {
+                fail(failure, t);
+            }
+        };
+    }
+
+    private static void fail(@Nullable Consumer<? super Throwable> failure, Throwable throwable) {
+        if (failure == null) {
+            log.error("RestAction queue returned failure", throwable);
+            return;
+        }
+        try {
+            failure.accept(throwable);
+        } catch (Throwable t) {
+            log.error("Encountered error while processing failure consumer!", t);
+        }
+    }
+
+    @Override
+    public CompletableFuture<T> submit() {
+        return supplier.get();
+    }
+
+    @Override
+    public T complete() {
+        return FutureBlocker.join(submit());
+    }
+}
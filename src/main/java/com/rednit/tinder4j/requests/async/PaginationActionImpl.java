@@ -0,0 +1,254 @@
+package com.rednit.tinder4j.requests.async;
+
+import com.rednit.tinder4j.api.TinderClient;
+import com.rednit.tinder4j.api.requests.PaginationAction;
+import com.rednit.tinder4j.exceptions.PaginationException;
+import com.rednit.tinder4j.requests.Response;
+import com.rednit.tinder4j.requests.Route;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.*;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Flow;
+import java.util.function.Consumer;
+import java.util.function.Function;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
+
+/**
+ * Pagination over a pair of routes, one for the first page and one taking the {@code next_page_token} of the previous
+ * page. The response is decoded into a {@link Page} of raw items on the http thread. The items are mapped to entities
+ * on the callback threads, after the request for the next page was sent.
+ *
+ * @param <R> the type of the raw items
+ * @param <T> the type of the paginated items
+ */
+public class PaginationActionImpl<R, T> implements PaginationAction<T> {
+
+    private final TinderClient client;
+    private final Route firstPage;
+    private final Route nextPage;
+    private final Object[] params;
+    private final Function<Response, Page<R>> decoder;
+    private final Function<? super R, ? extends T> mapper;
+    private volatile int pageSize;
+    private volatile String cursor;
+
+    /**
+     * Constructs a new PaginationActionImpl.
+     *
+     * @param client    the corresponding {@link TinderClient} instance
+     * @param firstPage the route of the first page, its last parameter must be the page size
+     * @param nextPage  the route of the following pages, its last parameters must be the page size and the cursor
+     * @param decoder   the function decoding a response into a {@link Page}
+     * @param mapper    the function mapping the raw items
+     * @param params    the leading route parameters, e.g. the match id
+     */
+    public PaginationActionImpl(TinderClient client,
+                                Route firstPage,
+                                Route nextPage,
+                                Function<Response, Page<R>> decoder,
+                                Function<? super R, ? extends T> mapper,
+                                Object... params) {
+        this.client = client;
+        this.firstPage = firstPage;
+        this.nextPage = nextPage;
+        this.decoder = decoder;
+        this.mapper = mapper;
+        this.params = params;
+        pageSize = DEFAULT_PAGE_SIZE;
+    }
+
+    @Override
+    public int getPageSize() {
+        return pageSize;
+    }
+
+    @Override
+    public PaginationAction<T> setPageSize(int pageSize) {
+        if (pageSize < 1) {
+            throw new IllegalArgumentException("Page size must be at least 1!");
+        }
+        this.pageSize = pageSize;
+        return this;
+    }
+
+    @Nullable
+    @Override
+    public String getCursor() {
+        return cursor;
+    }
+
+    @Override
+    public PaginationAction<T> setCursor(@Nullable String cursor) {
+        this.cursor = cursor;
+        return this;
+    }
+
+    public TinderClient getTinderClient() {
+        return client;
+    }
+
+    /**
+     * Requests a single page.
+     *
+     * @param cursor   the cursor of the page, {@code null} for the first page
+     * @param pageSize the amount of items to request
+     * @return a {@link CompletableFuture} holding the decoded page, completed on the callback threads
+     */
+    public CompletableFuture<Page<R>> fetch(@Nullable String cursor, int pageSize) {
+        Object[] args = Arrays.copyOf(params, params.length + (cursor == null ? 1 : 2));
+        args[params.length] = pageSize;
+        Route.CompiledRoute route;
+        if (cursor == null) {
+            route = firstPage.compile(args);
+        } else {
+            args[params.length + 1] = cursor;
+            route = nextPage.compile(args);
+        }
+        return new RestActionImpl<Page<R>>(client, route, (response, request) -> decoder.apply(response)).submit();
+    }
+
+    /**
+     * Maps a single raw item.
+     *
+     * @param item the raw item
+     * @return the mapped item
+     */
+    public T map(R item) {
+        return mapper.apply(item);
+    }
+
+    @Override
+    public Flow.Publisher<T> asPublisher() {
+        return new PaginationPublisher<>(this);
+    }
+
+    @Override
+    public Stream<T> stream() {
+        return StreamSupport.stream(new PageSpliterator(cursor, pageSize), false);
+    }
+
+    @Override
+    public void queue(@Nullable Consumer<? super List<T>> success, @Nullable Consumer<? super Throwable> failure) {
+        submit().whenComplete(FutureRestAction.callback(success, failure));
+    }
+
+    @Override
+    public CompletableFuture<List<T>> submit() {
+        CompletableFuture<List<T>> future = new CompletableFuture<>();
+        Pagination pagination = new Pagination(future, pageSize);
+        String start = cursor;
+        pagination.await(start, fetch(start, pagination.pageSize));
+        return future;
+    }
+
+    @Override
+    public List<T> complete() {
+        return FutureBlocker.join(submit());
+    }
+
+    /**
+     * A single decoded page.
+     *
+     * @param <R> the type of the raw items
+     */
+    public static class Page<R> {
+
+        private final List<R> items;
+        private final String nextCursor;
+
+        public Page(@Nullable List<R> items, @Nullable String nextCursor) {
+            this.items = items == null ? Collections.emptyList() : items;
+            this.nextCursor = nextCursor == null || nextCursor.isEmpty() ? null : nextCursor;
+        }
+
+        public List<R> getItems() {
+            return items;
+        }
+
+        @Nullable
+        public String getNextCursor() {
+            return nextCursor;
+        }
+    }
+
+    private class PageSpliterator extends Spliterators.AbstractSpliterator<T> {
+
+        private final int pageSize;
+        private final Queue<T> buffer;
+        private String cursor;
+        private boolean exhausted;
+
+        private PageSpliterator(String cursor, int pageSize) {
+            super(Long.MAX_VALUE, Spliterator.ORDERED | Spliterator.NONNULL);
+            this.cursor = cursor;
+            this.pageSize = pageSize;
+            buffer = new ArrayDeque<>();
+        }
+
+        @Override
+        public boolean tryAdvance(Consumer<? super T> action) {
+            while (buffer.isEmpty()) {
+                if (exhausted) {
+                    return false;
+                }
+                try {
+                    Page<R> page = FutureBlocker.join(fetch(cursor, pageSize));
+                    for (R item : page.getItems()) {
+                        buffer.add(map(item));
+                    }
+                    cursor = page.getNextCursor();
+                    exhausted = cursor == null;
+                } catch (Throwable t) {
+                    buffer.clear();
+                    throw new PaginationException(cursor, Collections.emptyList(), FutureRestAction.unwrap(t));
+                }
+            }
+            action.accept(buffer.poll());
+            return true;
+        }
+    }
+
+    // the state of a single load, every page callback runs after the previous one finished
+    private class Pagination {
+
+        private final CompletableFuture<List<T>> future;
+        private final int pageSize;
+        private final List<T> items;
+
+        private Pagination(CompletableFuture<List<T>> future, int pageSize) {
+            this.future = future;
+            this.pageSize = pageSize;
+            items = new ArrayList<>();
+        }
+
+        private void await(String cursor, CompletableFuture<Page<R>> pending) {
+            pending.whenComplete((page, throwable) -> {
+                if (throwable != null) {
+                    fail(cursor, FutureRestAction.unwrap(throwable));
+                    return;
+                }
+                String next = page.getNextCursor();
+                CompletableFuture<Page<R>> nextPending = next == null ? null : fetch(next, pageSize);
+                try {
+                    for (R item : page.getItems()) {
+                        items.add(map(item));
+                    }
+                } catch (Throwable t) {
+                    fail(cursor, t);
+                    return;
+                }
+                if (nextPending == null) {
+                    future.complete(items);
+                } else {
+                    await(next, nextPending);
+                }
+            });
+        }
+
+        private void fail(String cursor, Throwable throwable) {
+            future.completeExceptionally(new PaginationException(cursor, new ArrayList<>(items), throwable));
+        }
+    }
+}
@@ -0,0 +1,159 @@
+package com.rednit.tinder4j.requests.async;
+
+import com.rednit.tinder4j.api.requests.RestAction;
+import com.rednit.tinder4j.exceptions.PaginationException;
+import com.rednit.tinder4j.requests.async.PaginationActionImpl.Page;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.Collections;
+import java.util.Queue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.Flow;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * {@link Flow.Publisher} over a {@link PaginationActionImpl}. Signals are serialized with a work-in-progress counter,
+ * so {@link Flow.Subscriber#onNext(Object) onNext} is never called concurrently, either from the thread calling
+ * {@link Flow.Subscription#request(long) request} or from the callback thread delivering a page.
+ *
+ * @param <R> the type of the raw items
+ * @param <T> the type of the paginated items
+ */
+class PaginationPublisher<R, T> implements Flow.Publisher<T> {
+
+    private static final Logger log = LoggerFactory.getLogger(RestAction.class);
+    private final PaginationActionImpl<R, T> action;
+
+    PaginationPublisher(PaginationActionImpl<R, T> action) {
+        this.action = action;
+    }
+
+    @Override
+    public void subscribe(Flow.Subscriber<? super T> subscriber) {
+        PageSubscription subscription = new PageSubscription(subscriber, action.getCursor(), action.getPageSize());
+        subscriber.onSubscribe(subscription);
+    }
+
+    private class PageSubscription implements Flow.Subscription {
+
+        private final Flow.Subscriber<? super T> subscriber;
+        private final int pageSize;
+        private final Queue<T> buffer;
+        private final AtomicLong demand;
+        private final AtomicInteger wip;
+        private volatile String cursor;
+        private volatile boolean exhausted;
+        private volatile boolean fetching;
+        private volatile boolean cancelled;
+        private volatile Throwable error;
+
+        private PageSubscription(Flow.Subscriber<? super T> subscriber, String cursor, int pageSize) {
+            this.subscriber = subscriber;
+            this.cursor = cursor;
+            this.pageSize = pageSize;
+            buffer = new ConcurrentLinkedQueue<>();
+            demand = new AtomicLong();
+            wip = new AtomicInteger();
+        }
+
+        @Override
+        public void request(long n) {
+            if (n <= 0) {
+                error = new IllegalArgumentException("Demand must be positive, got " + n);
+                buffer.clear();
+            } else {
+                demand.getAndUpdate(current -> current + n < 0 ? Long.MAX_VALUE : current + n);
+            }
+            drain();
+        }
+
+        @Override
+        public void cancel() {
+            cancelled = true;
+            drain();
+        }
+
+        private void fetch() {
+            fetching = true;
+            String current = cursor;
+            CompletableFuture<Page<R>> pending;
+            try {
+                pending = action.fetch(current, pageSize);
+            } catch (Throwable t) {
+                onPage(current, null, t);
+                return;
+            }
+            pending.whenComplete((page, throwable) -> onPage(current, page, throwable));
+        }
+
+        private void onPage(String current, Page<R> page, Throwable throwable) {
+            if (throwable != null) {
+                error = new PaginationException(current, Collections.emptyList(), FutureRestAction.unwrap(throwable));
+            } else {
+                try {
+                    for (R item : page.getItems()) {
+                        buffer.offer(action.map(item));
+                    }
+                    cursor = page.getNextCursor();
+                    exhausted = cursor == null;
+                } catch (Throwable t) {
+                    error = new PaginationException(current, Collections.emptyList(), t);
+                }
+            }
+            fetching = false;
+            drain();
+        }
+
+        private void drain() {
+            if (wip.getAndIncrement() != 0) {
+                return;
+            }
+            int missed = 1;
+            do {
+                if (cancelled) {
+                    buffer.clear();
+                    return;
+                }
+                // a failed page never leaves items in the buffer, thus the error can be signalled right away
+                if (error != null) {
+                    cancelled = true;
+                    buffer.clear();
+                    subscriber.onError(error);
+                    return;
+                }
+                long requested = demand.get();
+                long emitted = 0;
+                while (emitted != requested && !cancelled) {
+                    T item = buffer.poll();
+                    if (item == null) {
+                        break;
+                    }
+                    try {
+                        subscriber.onNext(item);
+                    } catch (Throwable t) {
+                        log.error("Subscriber threw exception in onNext, cancelling subscription!", t);
+                        cancelled = true;
+                    }
+                    emitted++;
+                }
+                if (emitted != 0 && requested != Long.MAX_VALUE) {
+                    demand.addAndGet(-emitted);
+                }
+                if (!cancelled && buffer.isEmpty() && !fetching) {
+                    if (exhausted) {
+                        cancelled = true;
+                        subscriber.onComplete();
+                        return;
+                    }
+                    if (demand.get() > 0) {
+                        fetch();
+                    }
+                }
+                missed = wip.addAndGet(-missed);
+            } while (missed != 0);
+        }
+    }
+}
@@ -63,26 +63,25 @@ public class RestActionImpl<T> implements RestAction<T> {
 
     @Override
     public T complete() {
-        if (CallbackContext.isCallbackContext()) {
-            throw new IllegalStateException("Preventing use of complete() in callback threads! This operation can be a deadlock cause!");
-        }
+        // the future is completed on the requester thread, so waiting never depends on a free callback thread
         CompletableFuture<T> future = new CompletableFuture<>();
         client.getRequester().request(new Request<>(
-                this, future::complete, future::completeExceptionally, route, data
+                this, future::complete, future::completeExceptionally, route, data, true
         ));
-        return future.join();
+        return FutureBlocker.join(future);
     }
 
     public void handleResponse(Response response, Request<T> request) {
-        if (response.isOk()) {
-            if (handler == null) {
+        try (response) {
+            if (!response.isOk()) {
+                request.onFailure(response);
+            } else if (handler == null) {
                 request.onSuccess(null);
             } else {
                 request.onSuccess(handler.apply(response, request));
             }
-        } else {
-            request.onFailure(response);
+        } catch (Throwable t) {
+            request.onFailure(t);
         }
-        response.close();
     }
 }
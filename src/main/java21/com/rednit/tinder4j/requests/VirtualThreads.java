@@ -0,0 +1,33 @@
+package com.rednit.tinder4j.requests;
+
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+/**
+ * Access to virtual threads, which are only available on Java 21 and newer. This is the implementation for Java 21,
+ * older runtimes load the fallback from the root of the multi-release jar.
+ */
+public final class VirtualThreads {
+
+    private VirtualThreads() {
+    }
+
+    /**
+     * Whether the runtime supports virtual threads.
+     *
+     * @return {@code true} if the runtime supports virtual threads
+     */
+    public static boolean isSupported() {
+        return true;
+    }
+
+    /**
+     * Creates an {@link ExecutorService} that starts a new virtual thread for each task.
+     *
+     * @param name the name prefix of the threads
+     * @return the {@link ExecutorService}
+     */
+    public static ExecutorService newExecutor(String name) {
+        return Executors.newThreadPerTaskExecutor(Thread.ofVirtual().name(name + " ", 1).factory());
+    }
+}
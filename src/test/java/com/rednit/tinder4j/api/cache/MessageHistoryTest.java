@@ -0,0 +1,197 @@
+package com.rednit.tinder4j.api.cache;
+
+import com.rednit.tinder4j.api.entities.message.Message;
+import com.rednit.tinder4j.requests.DataObject;
+import org.junit.jupiter.api.Test;
+
+import java.lang.reflect.Field;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class MessageHistoryTest {
+
+    private static Message message(int id) {
+        Map<String, Object> data = new HashMap<>();
+        data.put("_id", "m" + id);
+        data.put("match_id", "match");
+        data.put("message", "content " + id);
+        return new Message(new DataObject(data), null);
+    }
+
+    // a page as returned by Tinder, newest message first
+    private static List<Message> page(int newest, int oldest) {
+        List<Message> page = new ArrayList<>();
+        for (int i = newest; i >= oldest; i--) {
+            page.add(message(i));
+        }
+        return page;
+    }
+
+    private static List<String> ids(List<Message> messages) {
+        return messages.stream().map(Message::getId).collect(Collectors.toList());
+    }
+
+    private static List<String> range(int oldest, int newest) {
+        List<String> ids = new ArrayList<>();
+        for (int i = oldest; i <= newest; i++) {
+            ids.add("m" + i);
+        }
+        return ids;
+    }
+
+    private static int tableLength(MessageHistory history) throws ReflectiveOperationException {
+        Field field = MessageHistory.class.getDeclaredField("chunks");
+        field.setAccessible(true);
+        return ((Object[]) field.get(history)).length;
+    }
+
+    @Test
+    void mergeOlderAddsPagesInOrder() {
+        MessageHistory history = new MessageHistory();
+        assertEquals(range(80, 99), ids(history.mergeNewest(page(99, 80), "c1")));
+        assertEquals(range(60, 79), ids(history.mergeOlder(page(79, 60), "c2")));
+
+        assertEquals(40, history.size());
+        assertEquals(range(60, 99), ids(history.snapshot()));
+    }
+
+    @Test
+    void mergeNewestSkipsKnownMessages() {
+        MessageHistory history = new MessageHistory();
+        history.mergeNewest(page(99, 80), "c1");
+
+        List<Message> added = history.mergeNewest(page(105, 90), "c0");
+
+        assertEquals(range(100, 105), ids(added));
+        assertEquals(range(80, 105), ids(history.snapshot()));
+    }
+
+    @Test
+    void mergeNewestContinuesOldestMessage() {
+        MessageHistory history = new MessageHistory();
+        history.mergeNewest(page(10, 5), "c1");
+
+        List<Message> added = history.mergeNewest(page(12, 0), null);
+
+        assertEquals(List.of("m0", "m1", "m2", "m3", "m4", "m11", "m12"), ids(added));
+        assertEquals(range(0, 12), ids(history.snapshot()));
+    }
+
+    @Test
+    void mergeOlderSkipsKnownMessages() {
+        MessageHistory history = new MessageHistory();
+        history.mergeNewest(page(99, 80), "c1");
+
+        List<Message> added = history.mergeOlder(page(85, 70), "c2");
+
+        assertEquals(range(70, 79), ids(added));
+        assertEquals(range(70, 99), ids(history.snapshot()));
+    }
+
+    @Test
+    void mergeNewestReplacesHistoryWithoutOverlap() {
+        MessageHistory history = new MessageHistory();
+        history.mergeNewest(page(49, 0), "c1");
+
+        history.mergeNewest(page(199, 180), "c2");
+
+        assertEquals(range(180, 199), ids(history.snapshot()));
+        assertEquals(-1, history.indexOf("m10"));
+    }
+
+    @Test
+    void addLastRejectsDuplicates() {
+        MessageHistory history = new MessageHistory();
+        assertTrue(history.addLast(message(1)));
+        assertFalse(history.addLast(message(1)));
+        assertEquals(1, history.size());
+    }
+
+    @Test
+    void randomAccessAfterPrependAndTrim() {
+        MessageHistory history = new MessageHistory();
+        history.mergeNewest(page(999, 990), "c");
+        // prepend across several chunk boundaries and table resizes
+        for (int newest = 989; newest >= 0; newest -= 10) {
+            history.mergeOlder(page(newest, newest - 9), "c" + newest);
+        }
+        for (int i = 1000; i < 1100; i++) {
+            history.addLast(message(i));
+        }
+        assertEquals(1100, history.size());
+
+        assertEquals(700, history.trimOldest(400));
+
+        assertEquals(400, history.size());
+        for (int i = 0; i < history.size(); i++) {
+            String id = "m" + (700 + i);
+            assertEquals(id, history.get(i).getId());
+            assertEquals(i, history.indexOf(id));
+            assertEquals(id, history.getById(id).getId());
+        }
+        assertEquals(-1, history.indexOf("m699"));
+        assertNull(history.getById("m699"));
+        assertEquals(range(750, 759), ids(history.subList(50, 60)));
+        assertThrows(IndexOutOfBoundsException.class, () -> history.get(400));
+    }
+
+    @Test
+    void olderCursorSurvivesTrim() {
+        MessageHistory history = new MessageHistory();
+        history.mergeNewest(page(99, 80), "c1");
+        history.mergeOlder(page(79, 60), "c2");
+        assertEquals("c2", history.getOlderCursor().getValue());
+
+        history.trimOldest(30);
+
+        // the oldest message now is m70, which is part of the page that follows c1
+        assertEquals("c1", history.getOlderCursor().getValue());
+    }
+
+    @Test
+    void olderCursorOfLastPageIsNull() {
+        MessageHistory history = new MessageHistory();
+        history.mergeNewest(page(9, 0), null);
+
+        assertNotNull(history.getOlderCursor());
+        assertNull(history.getOlderCursor().getValue());
+    }
+
+    @Test
+    void tableStaysBoundedUnderAppendAndTrim() throws ReflectiveOperationException {
+        MessageHistory history = new MessageHistory();
+        for (int i = 0; i < 100_000; i++) {
+            history.addLast(message(i));
+            history.trimOldest(100);
+        }
+
+        assertEquals(100, history.size());
+        assertEquals("m99900", history.get(0).getId());
+        assertEquals("m99999", history.get(99).getId());
+        // 100 messages need at most 5 chunks of 32 messages
+        assertTrue(tableLength(history) <= 16, "table length " + tableLength(history));
+    }
+
+    @Test
+    void tableShrinksAfterTrim() throws ReflectiveOperationException {
+        MessageHistory history = new MessageHistory();
+        for (int i = 0; i < 10_000; i++) {
+            history.addLast(message(i));
+        }
+        int grown = tableLength(history);
+
+        history.trimOldest(10);
+        for (int i = 10_000; i < 20_000; i++) {
+            history.addLast(message(i));
+            history.trimOldest(10);
+        }
+
+        assertTrue(tableLength(history) < grown, "table length " + tableLength(history) + " of " + grown);
+        assertEquals(range(19_990, 19_999), ids(history.snapshot()));
+    }
+}
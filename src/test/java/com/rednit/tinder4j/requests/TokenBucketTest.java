@@ -0,0 +1,136 @@
+package com.rednit.tinder4j.requests;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class TokenBucketTest {
+
+    private static final long HOUR = TimeUnit.HOURS.toMillis(1);
+
+    @Test
+    void startsFull() {
+        TokenBucket bucket = new TokenBucket(3, 1, TimeUnit.HOURS);
+
+        assertEquals(3, bucket.getTokens());
+        assertEquals(0, bucket.getDelay());
+    }
+
+    @Test
+    void acquiresUntilEmpty() {
+        TokenBucket bucket = new TokenBucket(3, 1, TimeUnit.HOURS);
+
+        assertTrue(bucket.tryAcquire());
+        assertTrue(bucket.tryAcquire());
+        assertTrue(bucket.tryAcquire());
+        assertFalse(bucket.tryAcquire());
+
+        assertEquals(0, bucket.getTokens());
+        assertTrue(bucket.getDelay() > HOUR - 1000);
+    }
+
+    @Test
+    void reservationsGoNegative() {
+        TokenBucket bucket = new TokenBucket(1, 1, TimeUnit.HOURS);
+
+        assertEquals(0, bucket.reserve());
+        long first = bucket.reserve();
+        long second = bucket.reserve();
+
+        assertEquals(-2, bucket.getTokens());
+        assertTrue(first > HOUR - 1000 && first <= HOUR, "first " + first);
+        assertTrue(second > 2 * HOUR - 1000 && second <= 2 * HOUR, "second " + second);
+        assertFalse(bucket.tryAcquire());
+    }
+
+    @Test
+    void concurrentReservationsGetDistinctTokens() throws Exception {
+        TokenBucket bucket = new TokenBucket(1, 1, TimeUnit.HOURS);
+        bucket.reserve();
+        int threads = 8;
+        int perThread = 100;
+        ExecutorService executor = Executors.newFixedThreadPool(threads);
+        try {
+            Callable<List<Long>> task = () -> IntStream.range(0, perThread)
+                    .mapToObj(i -> Math.round((double) bucket.reserve() / HOUR))
+                    .collect(Collectors.toList());
+            List<Future<List<Long>>> futures = executor.invokeAll(Collections.nCopies(threads, task));
+            Set<Long> slots = new HashSet<>();
+            for (Future<List<Long>> future : futures) {
+                slots.addAll(future.get());
+            }
+
+            assertEquals(threads * perThread, slots.size());
+            assertEquals(-threads * perThread, bucket.getTokens());
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    @Test
+    void grantsNoMoreThanCapacityUnderContention() throws Exception {
+        int capacity = 100;
+        int callers = 64;
+        TokenBucket bucket = new TokenBucket(capacity, 1, TimeUnit.HOURS);
+        CountDownLatch start = new CountDownLatch(1);
+        ExecutorService executor = Executors.newFixedThreadPool(callers);
+        try {
+            Callable<Integer> task = () -> {
+                start.await();
+                int granted = 0;
+                for (int i = 0; i < 1000; i++) {
+                    if (bucket.tryAcquire()) {
+                        granted++;
+                    }
+                }
+                return granted;
+            };
+            List<Future<Integer>> futures = new ArrayList<>();
+            for (int i = 0; i < callers; i++) {
+                futures.add(executor.submit(task));
+            }
+            start.countDown();
+            int granted = 0;
+            for (Future<Integer> future : futures) {
+                granted += future.get();
+            }
+
+            assertEquals(capacity, granted);
+            assertEquals(0, bucket.getTokens());
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    @Test
+    void refillsUpToCapacity() throws InterruptedException {
+        TokenBucket bucket = new TokenBucket(2, 10, TimeUnit.MILLISECONDS);
+        assertTrue(bucket.tryAcquire());
+        assertTrue(bucket.tryAcquire());
+
+        Thread.sleep(100);
+
+        assertEquals(2, bucket.getTokens());
+        assertTrue(bucket.tryAcquire());
+    }
+
+    @Test
+    void rejectsInvalidCapacity() {
+        assertThrows(IllegalArgumentException.class, () -> new TokenBucket(0, 1, TimeUnit.SECONDS));
+        assertThrows(IllegalArgumentException.class, () -> new TokenBucket(1 << 23, 1, TimeUnit.SECONDS));
+    }
+}